@@ -3,12 +3,14 @@ package com.thinkitive.healthfirst;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.info.Info;
 
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableScheduling
 @OpenAPIDefinition(info = @Info(title = "HealthFirst API", version = "1.0.0", description = "API for HealthFirst application"))
 public class HealthFirstApplication {
 
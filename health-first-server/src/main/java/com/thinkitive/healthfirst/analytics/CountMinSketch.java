@@ -0,0 +1,64 @@
+package com.thinkitive.healthfirst.analytics;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Count-min sketch over 64-bit hashes: {@link #DEPTH} rows of counters, each hashed
+ * independently; a count is the minimum over its rows, so it can only overestimate.
+ * Concurrent adds are plain atomic increments.
+ */
+final class CountMinSketch {
+
+    private static final int DEPTH = 4;
+
+    private final int mask;
+    private final AtomicIntegerArray counters;
+
+    CountMinSketch(int width) {
+        if (Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("Width must be a power of two");
+        }
+        this.mask = width - 1;
+        this.counters = new AtomicIntegerArray(DEPTH * width);
+    }
+
+    /**
+     * Counts one occurrence and returns the new estimate.
+     */
+    int add(long hash) {
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counters.incrementAndGet(index(row, hash)));
+        }
+        return estimate;
+    }
+
+    /**
+     * Estimate over several sketches of the same width, as if they had been added together.
+     */
+    static long estimate(List<CountMinSketch> sketches, long hash) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            long sum = 0;
+            for (CountMinSketch sketch : sketches) {
+                sum += sketch.counters.get(sketch.index(row, hash));
+            }
+            estimate = Math.min(estimate, sum);
+        }
+        return sketches.isEmpty() ? 0 : estimate;
+    }
+
+    void clear() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.set(i, 0);
+        }
+    }
+
+    // double hashing: row i uses h1 + i * h2
+    private int index(int row, long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        return row * (mask + 1) + ((h1 + row * h2) & mask);
+    }
+}
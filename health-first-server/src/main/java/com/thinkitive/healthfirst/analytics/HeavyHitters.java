@@ -0,0 +1,75 @@
+package com.thinkitive.healthfirst.analytics;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * The values with the highest count-min estimates seen so far, at most {@link #CAPACITY}
+ * of them. Offers below the current floor are turned away without taking the lock, which
+ * is the common case once the table has filled.
+ */
+final class HeavyHitters {
+
+    private static final int CAPACITY = 32;
+
+    private final String[] values = new String[CAPACITY];
+    private final long[] hashes = new long[CAPACITY];
+    private final int[] estimates = new int[CAPACITY];
+    private int size;
+    private volatile int floor;
+
+    void offer(long hash, String value, int estimate) {
+        if (estimate <= floor) {
+            // a tracked value that lost the race keeps a stale estimate; reports re-read the sketch anyway
+            return;
+        }
+        synchronized (this) {
+            int slot = -1;
+            for (int i = 0; i < size; i++) {
+                if (hashes[i] == hash) {
+                    slot = i;
+                    break;
+                }
+            }
+            if (slot < 0 && size < CAPACITY) {
+                slot = size++;
+            } else if (slot < 0) {
+                slot = lowest();
+                if (estimate <= estimates[slot]) {
+                    return;
+                }
+            }
+            values[slot] = value;
+            hashes[slot] = hash;
+            estimates[slot] = estimate;
+            if (size == CAPACITY) {
+                floor = estimates[lowest()];
+            }
+        }
+    }
+
+    /**
+     * Adds the tracked values to {@code candidates}, keyed by hash.
+     */
+    synchronized void collect(Map<Long, String> candidates) {
+        for (int i = 0; i < size; i++) {
+            candidates.putIfAbsent(hashes[i], values[i]);
+        }
+    }
+
+    synchronized void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+        floor = 0;
+    }
+
+    private int lowest() {
+        int lowest = 0;
+        for (int i = 1; i < size; i++) {
+            if (estimates[i] < estimates[lowest]) {
+                lowest = i;
+            }
+        }
+        return lowest;
+    }
+}
@@ -0,0 +1,57 @@
+package com.thinkitive.healthfirst.analytics;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * HyperLogLog distinct counter with 2^{@value #PRECISION} registers (about 2% standard
+ * error). Registers only ever grow, so concurrent adds are a compare-and-set max.
+ */
+final class HyperLogLog {
+
+    private static final int PRECISION = 11;
+    private static final int REGISTERS = 1 << PRECISION;
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTERS);
+
+    private final AtomicIntegerArray registers = new AtomicIntegerArray(REGISTERS);
+
+    void add(long hash) {
+        int register = (int) (hash >>> (64 - PRECISION));
+        // rank of the first set bit in the remaining bits, 1-based
+        int rank = Long.numberOfLeadingZeros(hash << PRECISION | 1L << (PRECISION - 1)) + 1;
+        int current = registers.get(register);
+        while (rank > current && !registers.compareAndSet(register, current, rank)) {
+            current = registers.get(register);
+        }
+    }
+
+    /**
+     * Distinct values seen by any of the sketches.
+     */
+    static long estimate(List<HyperLogLog> sketches) {
+        double sum = 0;
+        int zeros = 0;
+        for (int register = 0; register < REGISTERS; register++) {
+            int max = 0;
+            for (HyperLogLog sketch : sketches) {
+                max = Math.max(max, sketch.registers.get(register));
+            }
+            sum += 1.0 / (1L << max);
+            if (max == 0) {
+                zeros++;
+            }
+        }
+        double estimate = ALPHA * REGISTERS * REGISTERS / sum;
+        // small cardinalities are more accurate by linear counting of the empty registers
+        if (estimate <= 2.5 * REGISTERS && zeros > 0) {
+            estimate = REGISTERS * Math.log((double) REGISTERS / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    void clear() {
+        for (int register = 0; register < REGISTERS; register++) {
+            registers.set(register, 0);
+        }
+    }
+}
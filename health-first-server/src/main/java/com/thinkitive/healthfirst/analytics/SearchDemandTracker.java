@@ -0,0 +1,284 @@
+package com.thinkitive.healthfirst.analytics;
+
+import com.thinkitive.healthfirst.dto.request.AvailabilitySearchRequestDto;
+import com.thinkitive.healthfirst.dto.response.DemandCountDto;
+import com.thinkitive.healthfirst.dto.response.SearchDemandDto;
+import com.thinkitive.healthfirst.entity.AvailabilityStatus;
+import com.thinkitive.healthfirst.exception.BadRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * What patients search for, in constant memory: a ring of time buckets, each holding
+ * count-min sketches and heavy-hitter tables for specializations and cities, exact
+ * counters per combination of filters and a HyperLogLog of searchers. A report merges the
+ * buckets that fall inside the requested window. Recording a search allocates nothing.
+ */
+@Component
+public class SearchDemandTracker {
+
+    private static final int SKETCH_WIDTH = 512;
+    private static final int MAX_LIMIT = 100;
+    private static final String[] FILTERS = {
+            "specialization", "appointmentType", "city", "state", "zipCode", "insuranceAccepted", "status"};
+
+    private final long bucketMillis;
+    private final Bucket[] buckets;
+
+    public SearchDemandTracker(@Value("${availability.search-demand.bucket-minutes:15}") int bucketMinutes,
+                               @Value("${availability.search-demand.bucket-count:96}") int bucketCount) {
+        this.bucketMillis = bucketMinutes * 60_000L;
+        this.buckets = new Bucket[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new Bucket();
+        }
+    }
+
+    public void record(AvailabilitySearchRequestDto search, boolean empty) {
+        Bucket bucket = current(System.currentTimeMillis() / bucketMillis);
+        bucket.searches.incrementAndGet();
+        if (empty) {
+            bucket.emptyResults.incrementAndGet();
+        }
+
+        int filters = mask(search);
+        bucket.filterSearches.incrementAndGet(filters);
+        if (empty) {
+            bucket.filterEmptyResults.incrementAndGet(filters);
+        }
+        bucket.specializations.record(search.getSpecialization(), empty);
+        bucket.cities.record(search.getCity(), empty);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && !(authentication instanceof AnonymousAuthenticationToken)) {
+            bucket.searchers.add(hash(authentication.getName()));
+        }
+    }
+
+    /**
+     * Demand over the last {@code windowMinutes}, rounded up to whole buckets, with the
+     * {@code limit} most searched values of each dimension.
+     */
+    public SearchDemandDto report(int windowMinutes, int limit) {
+        int bucketMinutes = (int) (bucketMillis / 60_000);
+        if (windowMinutes < 1 || windowMinutes > bucketMinutes * buckets.length) {
+            throw new BadRequestException("Window must be between 1 and " + bucketMinutes * buckets.length + " minutes");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BadRequestException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        int windowBuckets = (windowMinutes + bucketMinutes - 1) / bucketMinutes;
+
+        long period = System.currentTimeMillis() / bucketMillis;
+        List<Bucket> window = new ArrayList<>(windowBuckets);
+        for (long p = period - windowBuckets + 1; p <= period; p++) {
+            Bucket bucket = buckets[(int) (p % buckets.length)];
+            if (bucket.period == p) {
+                window.add(bucket);
+            }
+        }
+
+        long searches = 0;
+        long emptyResults = 0;
+        List<DemandCountDto> filterCombinations = new ArrayList<>();
+        for (Bucket bucket : window) {
+            searches += bucket.searches.get();
+            emptyResults += bucket.emptyResults.get();
+        }
+        for (int filters = 0; filters < 1 << FILTERS.length; filters++) {
+            long count = 0;
+            long empty = 0;
+            for (Bucket bucket : window) {
+                count += bucket.filterSearches.get(filters);
+                empty += bucket.filterEmptyResults.get(filters);
+            }
+            if (count > 0) {
+                filterCombinations.add(demand(describe(filters), count, empty));
+            }
+        }
+
+        return SearchDemandDto.builder()
+                .windowMinutes(windowBuckets * bucketMinutes)
+                .searches(searches)
+                .emptyResults(emptyResults)
+                .emptyResultRatio(searches == 0 ? 0.0 : Math.round(10_000.0 * emptyResults / searches) / 10_000.0)
+                .distinctSearchers(window.isEmpty() ? 0
+                        : HyperLogLog.estimate(window.stream().map(bucket -> bucket.searchers).toList()))
+                .topSpecializations(top(window, bucket -> bucket.specializations, limit))
+                .topCities(top(window, bucket -> bucket.cities, limit))
+                .topFilterCombinations(filterCombinations.stream()
+                        .sorted(Comparator.comparing(DemandCountDto::getSearches).reversed())
+                        .limit(limit)
+                        .toList())
+                .build();
+    }
+
+    // The bucket for this period, reset first if it still holds an older period
+    private Bucket current(long period) {
+        Bucket bucket = buckets[(int) (period % buckets.length)];
+        if (bucket.period != period) {
+            synchronized (bucket) {
+                if (bucket.period != period) {
+                    bucket.clear();
+                    bucket.period = period;
+                }
+            }
+        }
+        return bucket;
+    }
+
+    // Candidates are each bucket's heavy hitters; their counts are re-estimated over the whole window
+    private static List<DemandCountDto> top(List<Bucket> window, Function<Bucket, Dimension> dimension, int limit) {
+        Map<Long, String> candidates = new HashMap<>();
+        window.forEach(bucket -> dimension.apply(bucket).heavyHitters.collect(candidates));
+        List<CountMinSketch> searches = window.stream().map(bucket -> dimension.apply(bucket).searches).toList();
+        List<CountMinSketch> empties = window.stream().map(bucket -> dimension.apply(bucket).emptyResults).toList();
+
+        return candidates.entrySet().stream()
+                .map(candidate -> demand(candidate.getValue().trim().toLowerCase(Locale.ROOT),
+                        CountMinSketch.estimate(searches, candidate.getKey()),
+                        CountMinSketch.estimate(empties, candidate.getKey())))
+                .sorted(Comparator.comparing(DemandCountDto::getSearches).reversed()
+                        .thenComparing(DemandCountDto::getValue))
+                .limit(limit)
+                .toList();
+    }
+
+    private static DemandCountDto demand(String value, long searches, long emptyResults) {
+        return DemandCountDto.builder()
+                .value(value)
+                .searches(searches)
+                // sketches overestimate independently, so keep the pair consistent
+                .emptyResults(Math.min(searches, emptyResults))
+                .build();
+    }
+
+    private static int mask(AvailabilitySearchRequestDto search) {
+        int mask = 0;
+        if (!isBlank(search.getSpecialization())) {
+            mask |= 1;
+        }
+        if (search.getAppointmentType() != null) {
+            mask |= 1 << 1;
+        }
+        if (!isBlank(search.getCity())) {
+            mask |= 1 << 2;
+        }
+        if (!isBlank(search.getState())) {
+            mask |= 1 << 3;
+        }
+        if (!isBlank(search.getZipCode())) {
+            mask |= 1 << 4;
+        }
+        if (search.getInsuranceAccepted() != null) {
+            mask |= 1 << 5;
+        }
+        if (search.getStatus() != null && search.getStatus() != AvailabilityStatus.AVAILABLE) {
+            mask |= 1 << 6;
+        }
+        return mask;
+    }
+
+    private static String describe(int mask) {
+        if (mask == 0) {
+            return "dateRange";
+        }
+        List<String> filters = new ArrayList<>();
+        for (int i = 0; i < FILTERS.length; i++) {
+            if ((mask & 1 << i) != 0) {
+                filters.add(FILTERS[i]);
+            }
+        }
+        return String.join("+", filters);
+    }
+
+    /**
+     * 64-bit hash of the trimmed, lower-cased value, computed in place so that equal
+     * filters in any case count together without building a normalized copy.
+     */
+    static long hash(String value) {
+        int start = 0;
+        int end = value.length();
+        while (start < end && Character.isWhitespace(value.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(value.charAt(end - 1))) {
+            end--;
+        }
+        // FNV-1a over the characters, then the MurmurHash3 finalizer to spread the bits
+        long hash = 0xcbf29ce484222325L;
+        for (int i = start; i < end; i++) {
+            hash ^= Character.toLowerCase(value.charAt(i));
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static final class Dimension {
+        private final CountMinSketch searches = new CountMinSketch(SKETCH_WIDTH);
+        private final CountMinSketch emptyResults = new CountMinSketch(SKETCH_WIDTH);
+        private final HeavyHitters heavyHitters = new HeavyHitters();
+
+        void record(String value, boolean empty) {
+            if (isBlank(value)) {
+                return;
+            }
+            long hash = hash(value);
+            heavyHitters.offer(hash, value, searches.add(hash));
+            if (empty) {
+                emptyResults.add(hash);
+            }
+        }
+
+        void clear() {
+            searches.clear();
+            emptyResults.clear();
+            heavyHitters.clear();
+        }
+    }
+
+    private static final class Bucket {
+        private volatile long period = -1;
+        private final AtomicLong searches = new AtomicLong();
+        private final AtomicLong emptyResults = new AtomicLong();
+        private final AtomicLongArray filterSearches = new AtomicLongArray(1 << FILTERS.length);
+        private final AtomicLongArray filterEmptyResults = new AtomicLongArray(1 << FILTERS.length);
+        private final Dimension specializations = new Dimension();
+        private final Dimension cities = new Dimension();
+        private final HyperLogLog searchers = new HyperLogLog();
+
+        void clear() {
+            searches.set(0);
+            emptyResults.set(0);
+            for (int i = 0; i < filterSearches.length(); i++) {
+                filterSearches.set(i, 0);
+                filterEmptyResults.set(i, 0);
+            }
+            specializations.clear();
+            cities.clear();
+            searchers.clear();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.thinkitive.healthfirst.cache;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET for versioned resources, called from inside the controller method so that
+ * method security has already admitted the caller. Only the ETag is used as a validator:
+ * it is read before the handler runs, so a write racing with the read moves the version
+ * past it and can never produce a stale 304.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetSupport {
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private final ResourceVersionTracker versionTracker;
+
+    /**
+     * 304 when the request's If-None-Match holds the current ETag, otherwise the handler's
+     * response, with validators only when it is successful. Outside a servlet request (batch
+     * sub-requests) the handler simply runs.
+     */
+    public <T> ResponseEntity<T> respond(VersionedResource resource, UUID id, Supplier<ResponseEntity<T>> handler) {
+        HttpServletRequest request = currentRequest();
+        if (request == null) {
+            return handler.get();
+        }
+        
+        String etag = buildEtag(request, resource, id);
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(REVALIDATE)
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .build();
+        }
+        
+        ResponseEntity<T> response = handler.get();
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            return response;
+        }
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .eTag(etag)
+                .cacheControl(REVALIDATE)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(response.getBody());
+    }
+
+    private String buildEtag(HttpServletRequest request, VersionedResource resource, UUID id) {
+        // The same version has a different representation per query and per negotiated format
+        String variant = request.getQueryString() + "|" + request.getHeader(HttpHeaders.ACCEPT);
+        return "\"" + Long.toHexString(versionTracker.getEpoch())
+                + "-" + versionTracker.getVersion(resource, id)
+                + "-" + Integer.toHexString(variant.hashCode()) + "\"";
+    }
+
+    // If-None-Match uses weak comparison and may list several tags; "*" is not honoured, as it
+    // would need the resource to be loaded to tell a 304 from a 404
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static HttpServletRequest currentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servletAttributes ? servletAttributes.getRequest() : null;
+    }
+}
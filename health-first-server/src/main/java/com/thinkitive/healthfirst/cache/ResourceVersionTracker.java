@@ -0,0 +1,75 @@
+package com.thinkitive.healthfirst.cache;
+
+import com.thinkitive.healthfirst.event.AvailabilityChangeEvent;
+import com.thinkitive.healthfirst.event.PatientChangeEvent;
+import com.thinkitive.healthfirst.event.ProviderChangeEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-memory version counters used as ETags. Counters start from a random epoch on every
+ * boot, so ETags handed out by a previous process never match. Single availabilities are
+ * tracked in a fixed number of stripes; a collision only costs a spurious 200.
+ */
+@Component
+public class ResourceVersionTracker {
+
+    private static final int AVAILABILITY_STRIPES = 4096;
+
+    private final long epoch = ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE;
+
+    private final Map<VersionedResource, Map<UUID, Long>> versions = new ConcurrentHashMap<>();
+    private final AtomicLongArray availabilityVersions = new AtomicLongArray(AVAILABILITY_STRIPES);
+
+    public long getEpoch() {
+        return epoch;
+    }
+
+    public long getVersion(VersionedResource resource, UUID id) {
+        if (resource == VersionedResource.AVAILABILITY) {
+            return availabilityVersions.get(stripe(id));
+        }
+        return versionsOf(resource).getOrDefault(id, 0L);
+    }
+
+    public void bump(VersionedResource resource, UUID id) {
+        if (id == null) {
+            return;
+        }
+        if (resource == VersionedResource.AVAILABILITY) {
+            availabilityVersions.incrementAndGet(stripe(id));
+            return;
+        }
+        versionsOf(resource).merge(id, 1L, Long::sum);
+    }
+
+    @TransactionalEventListener
+    public void onAvailabilityChange(AvailabilityChangeEvent event) {
+        bump(VersionedResource.AVAILABILITY, event.getAvailabilityId());
+        bump(VersionedResource.PROVIDER_SCHEDULE, event.getProviderId());
+    }
+
+    @TransactionalEventListener
+    public void onProviderChange(ProviderChangeEvent event) {
+        bump(VersionedResource.PROVIDER, event.getProvider().getId());
+    }
+
+    @TransactionalEventListener
+    public void onPatientChange(PatientChangeEvent event) {
+        bump(VersionedResource.PATIENT, event.getPatient().getId());
+    }
+
+    private Map<UUID, Long> versionsOf(VersionedResource resource) {
+        return versions.computeIfAbsent(resource, key -> new ConcurrentHashMap<>());
+    }
+
+    private static int stripe(UUID id) {
+        return (id.hashCode() & Integer.MAX_VALUE) % AVAILABILITY_STRIPES;
+    }
+}
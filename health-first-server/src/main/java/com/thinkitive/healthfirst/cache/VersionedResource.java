@@ -0,0 +1,8 @@
+package com.thinkitive.healthfirst.cache;
+
+public enum VersionedResource {
+    PROVIDER,
+    PATIENT,
+    PROVIDER_SCHEDULE,
+    AVAILABILITY
+}
@@ -0,0 +1,32 @@
+package com.thinkitive.healthfirst.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.task.DelegatingSecurityContextAsyncTaskExecutor;
+
+@Configuration
+public class BatchConfig {
+
+    @Value("${batch.executor.pool-size:16}")
+    private int poolSize;
+
+    @Value("${batch.executor.queue-capacity:500}")
+    private int queueCapacity;
+
+    @Bean(name = "batchExecutor")
+    public AsyncTaskExecutor batchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("batch-");
+        executor.initialize();
+        
+        // Sub-requests run on pool threads, so carry the caller's authentication over
+        // for the @PreAuthorize checks on the target controllers
+        return new DelegatingSecurityContextAsyncTaskExecutor(executor);
+    }
+}
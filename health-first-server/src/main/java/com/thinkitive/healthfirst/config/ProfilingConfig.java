@@ -0,0 +1,19 @@
+package com.thinkitive.healthfirst.config;
+
+import com.thinkitive.healthfirst.profiling.HibernateProfilingHooks;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ProfilingConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer profilingHibernateHooks() {
+        return properties -> {
+            properties.put(AvailableSettings.INTERCEPTOR, new HibernateProfilingHooks());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, HibernateProfilingHooks.class.getName());
+        };
+    }
+}
@@ -0,0 +1,41 @@
+package com.thinkitive.healthfirst.controller;
+
+import com.thinkitive.healthfirst.analytics.SearchDemandTracker;
+import com.thinkitive.healthfirst.dto.response.ApiResponse;
+import com.thinkitive.healthfirst.dto.response.SearchDemandDto;
+import com.thinkitive.healthfirst.service.SearchModelService;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminController {
+
+    private final SearchModelService searchModelService;
+    private final SearchDemandTracker searchDemandTracker;
+
+    @Operation(summary = "Rebuild the availability search read model from the availability table")
+    @PostMapping("/search-model/rebuild")
+    public ResponseEntity<ApiResponse<Integer>> rebuildSearchModel() {
+        int rows = searchModelService.rebuild();
+        return ResponseEntity.ok(ApiResponse.success("Search model rebuilt successfully", rows));
+    }
+
+    @Operation(summary = "Show what patients searched for over a recent window")
+    @GetMapping("/search-demand")
+    public ResponseEntity<ApiResponse<SearchDemandDto>> getSearchDemand(
+            @RequestParam(defaultValue = "60") int windowMinutes,
+            @RequestParam(defaultValue = "10") int limit) {
+        SearchDemandDto demand = searchDemandTracker.report(windowMinutes, limit);
+        return ResponseEntity.ok(ApiResponse.success("Search demand retrieved successfully", demand));
+    }
+}
@@ -57,4 +57,11 @@ public class AuthController {
         JwtAuthResponse jwtAuthResponse = authService.loginPatient(loginRequestDto);
         return ResponseEntity.ok(ApiResponse.success("Patient logged in successfully", jwtAuthResponse));
     }
+    
+    @PostMapping("/admin-login")
+    public ResponseEntity<ApiResponse<JwtAuthResponse>> loginAdmin(
+            @Valid @RequestBody LoginRequestDto loginRequestDto) {
+        JwtAuthResponse jwtAuthResponse = authService.loginAdmin(loginRequestDto);
+        return ResponseEntity.ok(ApiResponse.success("Admin logged in successfully", jwtAuthResponse));
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.thinkitive.healthfirst.controller;
+
+import com.thinkitive.healthfirst.stream.AvailabilityBroadcaster;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/availability")
+@RequiredArgsConstructor
+public class AvailabilityStreamController {
+
+    private final AvailabilityBroadcaster availabilityBroadcaster;
+
+    @Operation(summary = "Subscribe to availability changes by provider, specialization or city")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAvailabilityChanges(
+            @RequestParam(required = false) UUID providerId,
+            @RequestParam(required = false) String specialization,
+            @RequestParam(required = false) String city) {
+        return availabilityBroadcaster.subscribe(providerId, specialization, city);
+    }
+}
@@ -0,0 +1,31 @@
+package com.thinkitive.healthfirst.controller;
+
+import com.thinkitive.healthfirst.dto.request.BatchRequestDto;
+import com.thinkitive.healthfirst.dto.response.ApiResponse;
+import com.thinkitive.healthfirst.dto.response.BatchResponseDto;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/batch")
+@RequiredArgsConstructor
+public class BatchController {
+
+    private final BatchRequestDispatcher batchRequestDispatcher;
+
+    @Operation(summary = "Execute several read requests in one round trip")
+    @PostMapping
+    public ResponseEntity<ApiResponse<List<BatchResponseDto>>> executeBatch(
+            @Valid @RequestBody BatchRequestDto batchRequestDto) {
+        List<BatchResponseDto> results = batchRequestDispatcher.dispatch(batchRequestDto.getRequests());
+        return ResponseEntity.ok(ApiResponse.success("Batch executed successfully", results));
+    }
+}
@@ -0,0 +1,148 @@
+package com.thinkitive.healthfirst.controller;
+
+import com.thinkitive.healthfirst.dto.request.BatchOperationDto;
+import com.thinkitive.healthfirst.dto.response.ApiResponse;
+import com.thinkitive.healthfirst.dto.response.BatchResponseDto;
+import com.thinkitive.healthfirst.entity.AvailabilityStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+@Component
+@Slf4j
+public class BatchRequestDispatcher {
+
+    private final AsyncTaskExecutor batchExecutor;
+    private final Map<UriTemplate, BiFunction<Map<String, String>, MultiValueMap<String, String>, ResponseEntity<? extends ApiResponse<?>>>> routes;
+
+    @Value("${batch.timeout-ms:10000}")
+    private long timeoutMs;
+
+    public BatchRequestDispatcher(
+            @Qualifier("batchExecutor") AsyncTaskExecutor batchExecutor,
+            ProviderController providerController,
+            PatientController patientController,
+            ProviderAvailabilityController availabilityController) {
+        this.batchExecutor = batchExecutor;
+        this.routes = new LinkedHashMap<>();
+
+        // Only idempotent reads are multiplexed; the controllers are called through their
+        // proxies so method security still applies to every sub-request
+        routes.put(new UriTemplate("/api/providers/{id}"),
+                (vars, query) -> providerController.getProviderById(UUID.fromString(vars.get("id"))));
+        routes.put(new UriTemplate("/api/patients/{id}"),
+                (vars, query) -> patientController.getPatientById(UUID.fromString(vars.get("id"))));
+        routes.put(new UriTemplate("/api/v1/availability/{id}"),
+                (vars, query) -> availabilityController.getAvailabilityById(UUID.fromString(vars.get("id"))));
+        routes.put(new UriTemplate("/api/v1/provider/{providerId}/availability"),
+                (vars, query) -> availabilityController.getProviderAvailability(
+                        UUID.fromString(vars.get("providerId")),
+                        parseDate(query.getFirst("startDate")),
+                        parseDate(query.getFirst("endDate")),
+                        query.getFirst("status") != null ? AvailabilityStatus.valueOf(query.getFirst("status")) : null));
+    }
+
+    public List<BatchResponseDto> dispatch(List<BatchOperationDto> operations) {
+        List<CompletableFuture<BatchResponseDto>> futures = new ArrayList<>(operations.size());
+        for (BatchOperationDto operation : operations) {
+            try {
+                futures.add(CompletableFuture.supplyAsync(() -> execute(operation), batchExecutor));
+            } catch (TaskRejectedException ex) {
+                // pool and queue are full: shed this item only, the rest of the batch still runs
+                futures.add(CompletableFuture.completedFuture(
+                        error(operation, HttpStatus.SERVICE_UNAVAILABLE, "Server busy, retry the sub-request")));
+            }
+        }
+
+        CompletableFuture<Void> all = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+        try {
+            all.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (Exception ex) {
+            log.warn("Batch did not complete within {} ms", timeoutMs);
+        }
+
+        List<BatchResponseDto> results = new ArrayList<>(operations.size());
+        for (int i = 0; i < operations.size(); i++) {
+            CompletableFuture<BatchResponseDto> future = futures.get(i);
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                results.add(future.join());
+            } else {
+                future.cancel(true);
+                results.add(error(operations.get(i), HttpStatus.GATEWAY_TIMEOUT, "Sub-request timed out"));
+            }
+        }
+        return results;
+    }
+
+    private BatchResponseDto execute(BatchOperationDto operation) {
+        if (!"GET".equalsIgnoreCase(operation.getMethod())) {
+            return error(operation, HttpStatus.METHOD_NOT_ALLOWED, "Only GET sub-requests are supported");
+        }
+
+        UriComponents uri = UriComponentsBuilder.fromUriString(operation.getPath()).build();
+        String path = uri.getPath();
+
+        for (Map.Entry<UriTemplate, BiFunction<Map<String, String>, MultiValueMap<String, String>, ResponseEntity<? extends ApiResponse<?>>>> route : routes.entrySet()) {
+            if (path != null && route.getKey().matches(path)) {
+                try {
+                    ResponseEntity<? extends ApiResponse<?>> response =
+                            route.getValue().apply(route.getKey().match(path), uri.getQueryParams());
+                    return BatchResponseDto.builder()
+                            .id(operation.getId())
+                            .status(response.getStatusCode().value())
+                            .body(response.getBody())
+                            .build();
+                } catch (Exception ex) {
+                    return error(operation, resolveStatus(ex), ex.getMessage());
+                }
+            }
+        }
+
+        return error(operation, HttpStatus.NOT_FOUND, "Resource not found: " + operation.getPath());
+    }
+
+    private HttpStatus resolveStatus(Exception ex) {
+        if (ex instanceof AccessDeniedException) {
+            return HttpStatus.FORBIDDEN;
+        }
+        if (ex instanceof IllegalArgumentException) {
+            return HttpStatus.BAD_REQUEST;
+        }
+        ResponseStatus responseStatus = AnnotatedElementUtils.findMergedAnnotation(ex.getClass(), ResponseStatus.class);
+        return responseStatus != null ? responseStatus.code() : HttpStatus.INTERNAL_SERVER_ERROR;
+    }
+
+    private BatchResponseDto error(BatchOperationDto operation, HttpStatus status, String message) {
+        return BatchResponseDto.builder()
+                .id(operation.getId())
+                .status(status.value())
+                .body(ApiResponse.error(message))
+                .build();
+    }
+
+    private static LocalDate parseDate(String value) {
+        return value != null ? LocalDate.parse(value) : null;
+    }
+}
@@ -1,5 +1,7 @@
 package com.thinkitive.healthfirst.controller;
 
+import com.thinkitive.healthfirst.cache.ConditionalGetSupport;
+import com.thinkitive.healthfirst.cache.VersionedResource;
 import com.thinkitive.healthfirst.dto.response.ApiResponse;
 import com.thinkitive.healthfirst.dto.response.PatientResponseDto;
 import com.thinkitive.healthfirst.service.PatientService;
@@ -17,11 +19,13 @@ import java.util.UUID;
 public class PatientController {
 
     private final PatientService patientService;
+    private final ConditionalGetSupport conditionalGet;
 
     @Operation(summary = "Get patient by ID")
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<PatientResponseDto>> getPatientById(@PathVariable UUID id) {
-        return ResponseEntity.ok(ApiResponse.success(patientService.getPatientById(id)));
+        return conditionalGet.respond(VersionedResource.PATIENT, id,
+                () -> ResponseEntity.ok(ApiResponse.success(patientService.getPatientById(id))));
     }
 
     @Operation(summary = "Get patient by User ID")
@@ -1,16 +1,32 @@
 package com.thinkitive.healthfirst.controller;
 
+import com.thinkitive.healthfirst.cache.ConditionalGetSupport;
+import com.thinkitive.healthfirst.cache.VersionedResource;
 import com.thinkitive.healthfirst.dto.request.AvailabilityRequestDto;
 import com.thinkitive.healthfirst.dto.request.AvailabilitySearchRequestDto;
 import com.thinkitive.healthfirst.dto.response.ApiResponse;
 import com.thinkitive.healthfirst.dto.response.AvailabilityResponseDto;
+import com.thinkitive.healthfirst.dto.response.AvailabilitySearchResultDto;
+import com.thinkitive.healthfirst.dto.response.AvailabilitySyncResponseDto;
+import com.thinkitive.healthfirst.dto.response.CommonFreeTimeDto;
+import com.thinkitive.healthfirst.dto.response.CompactAvailabilityListDto;
+import com.thinkitive.healthfirst.dto.response.FreeGapDto;
+import com.thinkitive.healthfirst.dto.response.MonthlyAvailabilitySummaryDto;
+import com.thinkitive.healthfirst.dto.response.NearbyAvailabilityDto;
 import com.thinkitive.healthfirst.entity.AppointmentType;
 import com.thinkitive.healthfirst.entity.AvailabilityStatus;
+import com.thinkitive.healthfirst.profiling.Profiled;
 import com.thinkitive.healthfirst.service.AvailabilityService;
+import com.thinkitive.healthfirst.service.CalendarExportService;
+import com.thinkitive.healthfirst.service.ProviderService;
+import com.thinkitive.healthfirst.service.SchedulingService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -22,9 +38,13 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -32,7 +52,13 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ProviderAvailabilityController {
     
+    private static final MediaType TEXT_CALENDAR = MediaType.parseMediaType("text/calendar;charset=UTF-8");
+    
     private final AvailabilityService availabilityService;
+    private final CalendarExportService calendarExportService;
+    private final ProviderService providerService;
+    private final SchedulingService schedulingService;
+    private final ConditionalGetSupport conditionalGet;
     
     @PostMapping("/provider/{providerId}/availability")
     @PreAuthorize("hasRole('PROVIDER')")
@@ -63,13 +89,66 @@ public class ProviderAvailabilityController {
     }
     
     @GetMapping("/provider/{providerId}/availability")
-    @PreAuthorize("hasRole('PROVIDER') or hasRole('PATIENT')")
+    @PreAuthorize("hasRole('PROVIDER') or hasRole('PATIENT') or hasRole('ADMIN')")
+    @Profiled
     public ResponseEntity<ApiResponse<List<AvailabilityResponseDto>>> getProviderAvailability(
             @PathVariable UUID providerId,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
             @RequestParam(required = false) AvailabilityStatus status) {
         
+        return conditionalGet.respond(VersionedResource.PROVIDER_SCHEDULE, providerId, () -> {
+            List<AvailabilityResponseDto> availabilities = findProviderAvailability(providerId, startDate, endDate, status);
+            return ResponseEntity.ok(ApiResponse.success("Provider availability retrieved successfully", availabilities));
+        });
+    }
+    
+    @GetMapping(value = "/provider/{providerId}/availability", params = "format=compact")
+    @PreAuthorize("hasRole('PROVIDER') or hasRole('PATIENT') or hasRole('ADMIN')")
+    @Profiled
+    public ResponseEntity<ApiResponse<CompactAvailabilityListDto>> getProviderAvailabilityCompact(
+            @PathVariable UUID providerId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) AvailabilityStatus status) {
+        
+        return conditionalGet.respond(VersionedResource.PROVIDER_SCHEDULE, providerId, () -> {
+            List<AvailabilityResponseDto> availabilities = findProviderAvailability(providerId, startDate, endDate, status);
+            return ResponseEntity.ok(ApiResponse.success("Provider availability retrieved successfully",
+                    CompactAvailabilityListDto.from(availabilities)));
+        });
+    }
+    
+    @GetMapping("/provider/{providerId}/availability/sync")
+    @PreAuthorize("hasRole('PROVIDER') or hasRole('PATIENT') or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<AvailabilitySyncResponseDto>> syncProviderAvailability(
+            @PathVariable UUID providerId,
+            @RequestParam(required = false) Long syncToken) {
+        
+        AvailabilitySyncResponseDto syncResponse = availabilityService.syncAvailabilities(providerId, syncToken);
+        
+        return ResponseEntity.ok(ApiResponse.success("Availability changes retrieved successfully", syncResponse));
+    }
+    
+    @GetMapping(value = "/provider/{providerId}/availability.ics", produces = "text/calendar")
+    @PreAuthorize("hasRole('PROVIDER') or hasRole('PATIENT') or hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportProviderCalendar(@PathVariable UUID providerId) {
+        return conditionalGet.respond(VersionedResource.PROVIDER_SCHEDULE, providerId, () -> {
+            // fail with 404 before the response is committed
+            providerService.getProviderEntityById(providerId);
+            
+            StreamingResponseBody body = outputStream -> calendarExportService.writeProviderCalendar(providerId, outputStream);
+            
+            return ResponseEntity.ok()
+                    .contentType(TEXT_CALENDAR)
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                            ContentDisposition.inline().filename("availability-" + providerId + ".ics").build().toString())
+                    .body(body);
+        });
+    }
+    
+    private List<AvailabilityResponseDto> findProviderAvailability(
+            UUID providerId, LocalDate startDate, LocalDate endDate, AvailabilityStatus status) {
         List<AvailabilityResponseDto> availabilities;
         
         if (startDate != null && endDate != null) {
@@ -91,14 +170,16 @@ public class ProviderAvailabilityController {
             availabilities = availabilityService.getAvailabilitiesByProviderId(providerId);
         }
         
-        return ResponseEntity.ok(ApiResponse.success("Provider availability retrieved successfully", availabilities));
+        return availabilities;
     }
     
     @GetMapping("/availability/{id}")
-    @PreAuthorize("hasRole('PROVIDER') or hasRole('PATIENT')")
+    @PreAuthorize("hasRole('PROVIDER') or hasRole('PATIENT') or hasRole('ADMIN')")
     public ResponseEntity<ApiResponse<AvailabilityResponseDto>> getAvailabilityById(@PathVariable UUID id) {
-        AvailabilityResponseDto availability = availabilityService.getAvailabilityById(id);
-        return ResponseEntity.ok(ApiResponse.success("Availability retrieved successfully", availability));
+        return conditionalGet.respond(VersionedResource.AVAILABILITY, id, () -> {
+            AvailabilityResponseDto availability = availabilityService.getAvailabilityById(id);
+            return ResponseEntity.ok(ApiResponse.success("Availability retrieved successfully", availability));
+        });
     }
     
     @PutMapping("/provider/availability/{id}")
@@ -126,7 +207,63 @@ public class ProviderAvailabilityController {
         return ResponseEntity.ok(ApiResponse.success("Recurring availability deleted successfully", null));
     }
     
+    @GetMapping("/availability/calendar")
+    @PreAuthorize("hasRole('PROVIDER') or hasRole('PATIENT')")
+    public ResponseEntity<ApiResponse<List<MonthlyAvailabilitySummaryDto>>> getAvailabilityCalendar(
+            @RequestParam List<UUID> providerIds,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        
+        List<MonthlyAvailabilitySummaryDto> summaries = availabilityService.getMonthlySummaries(providerIds, from, to);
+        
+        return ResponseEntity.ok(ApiResponse.success("Availability calendar retrieved successfully", summaries));
+    }
+    
+    @GetMapping("/availability/next")
+    public ResponseEntity<ApiResponse<List<AvailabilityResponseDto>>> getNextAvailable(
+            @RequestParam(required = false) UUID providerId,
+            @RequestParam(required = false) String specialization,
+            @RequestParam(required = false) String city,
+            @RequestParam(defaultValue = "10") int limit) {
+        
+        List<AvailabilityResponseDto> availabilities =
+                availabilityService.getNextAvailable(providerId, specialization, city, limit);
+        
+        return ResponseEntity.ok(ApiResponse.success("Next available slots retrieved successfully", availabilities));
+    }
+    
+    @GetMapping("/availability/gaps")
+    public ResponseEntity<ApiResponse<List<FreeGapDto>>> findFreeGaps(
+            @RequestParam(required = false) UUID providerId,
+            @RequestParam(required = false) String specialization,
+            @RequestParam int minutes,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "20") int limit) {
+        
+        List<FreeGapDto> gaps =
+                availabilityService.findFreeGaps(providerId, specialization, minutes, startDate, endDate, limit);
+        
+        return ResponseEntity.ok(ApiResponse.success("Free gaps retrieved successfully", gaps));
+    }
+    
+    @GetMapping("/availability/common")
+    @PreAuthorize("hasRole('PROVIDER') or hasRole('PATIENT')")
+    public ResponseEntity<ApiResponse<List<CommonFreeTimeDto>>> findCommonFreeTime(
+            @RequestParam List<UUID> providerIds,
+            @RequestParam int duration,
+            @RequestParam(required = false) Integer step,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        
+        List<CommonFreeTimeDto> commonFreeTime =
+                schedulingService.findCommonFreeTime(providerIds, duration, step, startDate, endDate);
+        
+        return ResponseEntity.ok(ApiResponse.success("Common free time retrieved successfully", commonFreeTime));
+    }
+    
     @GetMapping("/availability/search")
+    @Profiled
     public ResponseEntity<ApiResponse<List<AvailabilityResponseDto>>> searchAvailability(
             @Valid AvailabilitySearchRequestDto searchRequestDto) {
         
@@ -135,7 +272,54 @@ public class ProviderAvailabilityController {
         return ResponseEntity.ok(ApiResponse.success("Availabilities retrieved successfully", availabilities));
     }
     
+    @GetMapping(value = "/availability/search", params = "format=compact")
+    @Profiled
+    public ResponseEntity<ApiResponse<CompactAvailabilityListDto>> searchAvailabilityCompact(
+            @Valid AvailabilitySearchRequestDto searchRequestDto) {
+        
+        List<AvailabilityResponseDto> availabilities = availabilityService.searchAvailabilities(searchRequestDto);
+        
+        return ResponseEntity.ok(ApiResponse.success("Availabilities retrieved successfully",
+                CompactAvailabilityListDto.from(availabilities)));
+    }
+    
+    @GetMapping(value = "/availability/search", params = {"facets=true", "format!=compact"})
+    @Profiled
+    public ResponseEntity<ApiResponse<List<AvailabilityResponseDto>>> searchAvailabilityWithFacets(
+            @Valid AvailabilitySearchRequestDto searchRequestDto) {
+        
+        AvailabilitySearchResultDto result = availabilityService.searchAvailabilitiesWithFacets(searchRequestDto);
+        
+        return ResponseEntity.ok(ApiResponse.success("Availabilities retrieved successfully",
+                result.getAvailabilities(), Map.of("facets", result.getFacets())));
+    }
+    
+    @GetMapping("/availability/window")
+    @Profiled
+    public ResponseEntity<ApiResponse<List<AvailabilityResponseDto>>> searchAvailabilityInWindow(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) AvailabilityStatus status,
+            @RequestParam(defaultValue = "100") int limit) {
+        
+        List<AvailabilityResponseDto> availabilities = availabilityService.searchAvailabilitiesInWindow(
+                from != null ? from : Instant.now(), to, status, limit);
+        
+        return ResponseEntity.ok(ApiResponse.success("Availabilities retrieved successfully", availabilities));
+    }
+    
+    @GetMapping("/availability/search/nearby")
+    @Profiled
+    public ResponseEntity<ApiResponse<List<NearbyAvailabilityDto>>> searchNearbyAvailability(
+            @Valid AvailabilitySearchRequestDto searchRequestDto) {
+        
+        List<NearbyAvailabilityDto> availabilities = availabilityService.searchNearbyAvailabilities(searchRequestDto);
+        
+        return ResponseEntity.ok(ApiResponse.success("Nearby availabilities retrieved successfully", availabilities));
+    }
+    
     @GetMapping("/availability/search/specialization/{specialization}")
+    @Profiled
     public ResponseEntity<ApiResponse<List<AvailabilityResponseDto>>> searchAvailabilityBySpecialization(
             @PathVariable String specialization,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
@@ -148,6 +332,7 @@ public class ProviderAvailabilityController {
     }
     
     @GetMapping("/availability/search/appointment-type/{appointmentType}")
+    @Profiled
     public ResponseEntity<ApiResponse<List<AvailabilityResponseDto>>> searchAvailabilityByAppointmentType(
             @PathVariable AppointmentType appointmentType,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
@@ -1,7 +1,10 @@
 package com.thinkitive.healthfirst.controller;
 
+import com.thinkitive.healthfirst.cache.ConditionalGetSupport;
+import com.thinkitive.healthfirst.cache.VersionedResource;
 import com.thinkitive.healthfirst.dto.response.ApiResponse;
 import com.thinkitive.healthfirst.dto.response.ProviderResponseDto;
+import com.thinkitive.healthfirst.dto.response.ProviderSuggestionDto;
 import com.thinkitive.healthfirst.service.ProviderService;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
@@ -17,11 +20,13 @@ import java.util.UUID;
 public class ProviderController {
 
     private final ProviderService providerService;
+    private final ConditionalGetSupport conditionalGet;
 
     @Operation(summary = "Get provider by ID")
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<ProviderResponseDto>> getProviderById(@PathVariable UUID id) {
-        return ResponseEntity.ok(ApiResponse.success(providerService.getProviderById(id)));
+        return conditionalGet.respond(VersionedResource.PROVIDER, id,
+                () -> ResponseEntity.ok(ApiResponse.success(providerService.getProviderById(id))));
     }
 
     @Operation(summary = "Get provider by User ID")
@@ -42,4 +47,12 @@ public class ProviderController {
             @PathVariable String specialization) {
         return ResponseEntity.ok(ApiResponse.success(providerService.getProvidersBySpecialization(specialization)));
     }
-}
+
+    @Operation(summary = "Search providers by name or specialization (prefix and typo tolerant)")
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<ProviderSuggestionDto>>> searchProviders(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(ApiResponse.success(providerService.searchProviders(q, limit)));
+    }
+}
\ No newline at end of file
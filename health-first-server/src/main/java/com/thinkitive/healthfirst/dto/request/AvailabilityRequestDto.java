@@ -6,6 +6,7 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -62,5 +63,6 @@ public class AvailabilityRequestDto {
     
     private String notes;
     
-    private List<String> specialRequirements;
+    @Size(max = 20, message = "At most 20 special requirements are allowed")
+    private List<@Size(max = 100, message = "Special requirement cannot exceed 100 characters") String> specialRequirements;
 } 
\ No newline at end of file
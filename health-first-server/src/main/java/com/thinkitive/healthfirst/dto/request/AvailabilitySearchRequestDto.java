@@ -1,7 +1,12 @@
 package com.thinkitive.healthfirst.dto.request;
 
 import com.thinkitive.healthfirst.entity.AppointmentType;
+import com.thinkitive.healthfirst.entity.AvailabilityStatus;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -35,4 +40,27 @@ public class AvailabilitySearchRequestDto {
     private String zipCode;
     
     private Boolean insuranceAccepted;
+    
+    // Defaults to AVAILABLE
+    private AvailabilityStatus status;
+    
+    // Distance search, used by /availability/search/nearby
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    private Double latitude;
+    
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    private Double longitude;
+    
+    @DecimalMin(value = "0.1", message = "Radius must be at least 0.1 km")
+    @DecimalMax(value = "500.0", message = "Radius cannot exceed 500 km")
+    private Double radiusKm;
+    
+    // Ordering and page size of the result; /availability/search returns every match when no limit is given
+    private AvailabilitySort sortBy;
+    
+    @Min(value = 1, message = "Limit must be at least 1")
+    @Max(value = 500, message = "Limit cannot exceed 500")
+    private Integer limit;
 } 
\ No newline at end of file
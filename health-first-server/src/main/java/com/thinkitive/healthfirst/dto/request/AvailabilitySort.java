@@ -0,0 +1,7 @@
+package com.thinkitive.healthfirst.dto.request;
+
+public enum AvailabilitySort {
+    EARLIEST,
+    PRICE,
+    EXPERIENCE
+}
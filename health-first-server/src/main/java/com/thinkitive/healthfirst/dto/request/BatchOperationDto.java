@@ -0,0 +1,25 @@
+package com.thinkitive.healthfirst.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchOperationDto {
+    
+    @Size(max = 64, message = "Request id cannot exceed 64 characters")
+    private String id; // echoed back so clients can correlate results
+    
+    @Builder.Default
+    private String method = "GET";
+    
+    @NotBlank(message = "Path is required")
+    @Size(max = 512, message = "Path cannot exceed 512 characters")
+    private String path; // e.g., /api/providers/{id}?...
+}
@@ -0,0 +1,23 @@
+package com.thinkitive.healthfirst.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchRequestDto {
+    
+    @NotEmpty(message = "At least one request is required")
+    @Size(max = 50, message = "A batch cannot contain more than 50 requests")
+    @Valid
+    private List<BatchOperationDto> requests;
+}
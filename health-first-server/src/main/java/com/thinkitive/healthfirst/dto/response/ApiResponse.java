@@ -41,6 +41,15 @@ public class ApiResponse<T> {
                 .build();
     }
     
+    public static <T> ApiResponse<T> success(String message, T data, Map<String, Object> metadata) {
+        return ApiResponse.<T>builder()
+                .success(true)
+                .message(message)
+                .data(data)
+                .metadata(metadata)
+                .build();
+    }
+    
     public static <T> ApiResponse<T> error(String message) {
         return ApiResponse.<T>builder()
                 .success(false)
@@ -0,0 +1,21 @@
+package com.thinkitive.healthfirst.dto.response;
+
+import com.thinkitive.healthfirst.event.AvailabilityChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilityChangeDto {
+    
+    private AvailabilityChangeType type;
+    private UUID availabilityId;
+    private UUID providerId;
+    private AvailabilityResponseDto availability;
+}
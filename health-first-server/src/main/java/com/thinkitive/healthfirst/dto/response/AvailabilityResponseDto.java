@@ -10,6 +10,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
@@ -25,10 +26,13 @@ public class AvailabilityResponseDto {
     private UUID providerId;
     private String providerName;
     private String specialization;
+    private Integer yearsOfExperience;
     private LocalDate date;
     private LocalTime startTime;
     private LocalTime endTime;
     private String timezone;
+    private Instant startInstant; // the local times resolved in timezone
+    private Instant endInstant;
     private Boolean isRecurring;
     private RecurrencePattern recurrencePattern;
     private LocalDate recurrenceEndDate;
@@ -0,0 +1,19 @@
+package com.thinkitive.healthfirst.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilitySearchResultDto {
+    
+    private List<AvailabilityResponseDto> availabilities;
+    private Map<String, Map<String, Long>> facets; // dimension -> value -> matching availabilities
+}
@@ -0,0 +1,22 @@
+package com.thinkitive.healthfirst.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilitySyncResponseDto {
+    
+    private Long syncToken; // pass back on the next sync
+    private Boolean fullSync; // true when upserts is the complete schedule
+    private Boolean hasMore; // more changes are pending, sync again immediately
+    private List<AvailabilityResponseDto> upserts;
+    private List<UUID> deletedIds;
+}
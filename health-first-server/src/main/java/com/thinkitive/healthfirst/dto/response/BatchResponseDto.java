@@ -0,0 +1,17 @@
+package com.thinkitive.healthfirst.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResponseDto {
+    
+    private String id;
+    private Integer status;
+    private ApiResponse<?> body;
+}
@@ -0,0 +1,20 @@
+package com.thinkitive.healthfirst.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommonFreeTimeDto {
+    
+    private Instant windowStart; // every requested provider is free from here
+    private Instant windowEnd; // until here
+    private List<Instant> candidateStarts; // starts at which the requested duration fits in the window
+}
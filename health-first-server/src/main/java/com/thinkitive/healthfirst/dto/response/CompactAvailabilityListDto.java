@@ -0,0 +1,135 @@
+package com.thinkitive.healthfirst.dto.response;
+
+import com.thinkitive.healthfirst.dto.request.LocationDto;
+import com.thinkitive.healthfirst.dto.request.PricingDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Normalized form of an availability list: providers, timezones, locations and pricing
+ * are listed once and each slot refers to them by index. Dates are day offsets from
+ * {@code baseDate}, times are minutes of the day and the UTC start and end are seconds since
+ * {@code baseInstant}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompactAvailabilityListDto {
+
+    private LocalDate baseDate;
+    private Instant baseInstant;
+    private List<CompactProviderDto> providers;
+    private List<String> timezones;
+    private List<LocationDto> locations;
+    private List<PricingDto> pricing;
+    private List<CompactSlotDto> slots;
+
+    public static CompactAvailabilityListDto from(List<AvailabilityResponseDto> availabilities) {
+        LocalDate baseDate = availabilities.stream()
+                .map(AvailabilityResponseDto::getDate)
+                .min(LocalDate::compareTo)
+                .orElse(null);
+        Instant baseInstant = availabilities.stream()
+                .map(AvailabilityResponseDto::getStartInstant)
+                .filter(Objects::nonNull)
+                .min(Instant::compareTo)
+                .orElse(null);
+
+        Dictionary<UUID, CompactProviderDto> providers = new Dictionary<>();
+        Dictionary<String, String> timezones = new Dictionary<>();
+        Dictionary<LocationDto, LocationDto> locations = new Dictionary<>();
+        Dictionary<PricingDto, PricingDto> pricing = new Dictionary<>();
+        List<CompactSlotDto> slots = new ArrayList<>(availabilities.size());
+
+        for (AvailabilityResponseDto availability : availabilities) {
+            Integer providerIndex = providers.indexOf(availability.getProviderId(), () -> CompactProviderDto.builder()
+                    .id(availability.getProviderId())
+                    .name(availability.getProviderName())
+                    .specialization(availability.getSpecialization())
+                    .yearsOfExperience(availability.getYearsOfExperience())
+                    .build());
+
+            slots.add(CompactSlotDto.builder()
+                    .id(availability.getId())
+                    .provider(providerIndex)
+                    .day(dayOffset(baseDate, availability.getDate()))
+                    .start(minuteOfDay(availability.getStartTime()))
+                    .end(minuteOfDay(availability.getEndTime()))
+                    .timezone(timezones.indexOf(availability.getTimezone(), availability::getTimezone))
+                    .startInstant(secondOffset(baseInstant, availability.getStartInstant()))
+                    .endInstant(secondOffset(baseInstant, availability.getEndInstant()))
+                    .slotDuration(availability.getSlotDuration())
+                    .breakDuration(availability.getBreakDuration())
+                    .status(availability.getStatus())
+                    .maxAppointmentsPerSlot(availability.getMaxAppointmentsPerSlot())
+                    .currentAppointments(availability.getCurrentAppointments())
+                    .appointmentType(availability.getAppointmentType())
+                    .location(locations.indexOf(availability.getLocation(), availability::getLocation))
+                    .pricing(pricing.indexOf(availability.getPricing(), availability::getPricing))
+                    .recurrencePattern(Boolean.TRUE.equals(availability.getIsRecurring())
+                            ? availability.getRecurrencePattern() : null)
+                    .recurrenceEndDay(dayOffset(baseDate, availability.getRecurrenceEndDate()))
+                    .notes(availability.getNotes())
+                    .specialRequirements(availability.getSpecialRequirements() == null
+                            || availability.getSpecialRequirements().isEmpty()
+                            ? null : new ArrayList<>(availability.getSpecialRequirements()))
+                    .build());
+        }
+
+        return CompactAvailabilityListDto.builder()
+                .baseDate(baseDate)
+                .baseInstant(baseInstant)
+                .providers(providers.values())
+                .timezones(timezones.values())
+                .locations(locations.values())
+                .pricing(pricing.values())
+                .slots(slots)
+                .build();
+    }
+
+    private static Integer dayOffset(LocalDate baseDate, LocalDate date) {
+        return baseDate == null || date == null ? null : (int) ChronoUnit.DAYS.between(baseDate, date);
+    }
+
+    private static Long secondOffset(Instant baseInstant, Instant instant) {
+        return baseInstant == null || instant == null ? null : instant.getEpochSecond() - baseInstant.getEpochSecond();
+    }
+
+    private static Integer minuteOfDay(LocalTime time) {
+        return time == null ? null : time.getHour() * 60 + time.getMinute();
+    }
+
+    private static final class Dictionary<K, V> {
+        private final Map<K, Integer> indexes = new HashMap<>();
+        private final List<V> values = new ArrayList<>();
+
+        Integer indexOf(K key, Supplier<V> value) {
+            if (key == null) {
+                return null;
+            }
+            return indexes.computeIfAbsent(key, k -> {
+                values.add(value.get());
+                return values.size() - 1;
+            });
+        }
+
+        List<V> values() {
+            return values;
+        }
+    }
+}
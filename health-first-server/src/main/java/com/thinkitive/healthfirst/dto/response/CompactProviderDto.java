@@ -0,0 +1,20 @@
+package com.thinkitive.healthfirst.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompactProviderDto {
+    
+    private UUID id;
+    private String name;
+    private String specialization;
+    private Integer yearsOfExperience;
+}
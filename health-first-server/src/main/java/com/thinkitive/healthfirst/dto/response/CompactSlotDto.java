@@ -0,0 +1,46 @@
+package com.thinkitive.healthfirst.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.thinkitive.healthfirst.entity.AppointmentType;
+import com.thinkitive.healthfirst.entity.AvailabilityStatus;
+import com.thinkitive.healthfirst.entity.RecurrencePattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonFormat(shape = JsonFormat.Shape.ARRAY)
+@JsonPropertyOrder({"id", "provider", "day", "start", "end", "timezone", "startInstant", "endInstant", "slotDuration", "breakDuration",
+        "status", "maxAppointmentsPerSlot", "currentAppointments", "appointmentType", "location", "pricing",
+        "recurrencePattern", "recurrenceEndDay", "notes", "specialRequirements"})
+public class CompactSlotDto {
+    
+    private UUID id;
+    private Integer provider; // index into providers
+    private Integer day; // days since baseDate
+    private Integer start; // minute of day
+    private Integer end; // minute of day
+    private Integer timezone; // index into timezones
+    private Long startInstant; // seconds since baseInstant
+    private Long endInstant; // seconds since baseInstant
+    private Integer slotDuration;
+    private Integer breakDuration;
+    private AvailabilityStatus status;
+    private Integer maxAppointmentsPerSlot;
+    private Integer currentAppointments;
+    private AppointmentType appointmentType;
+    private Integer location; // index into locations, null if none
+    private Integer pricing; // index into pricing, null if none
+    private RecurrencePattern recurrencePattern; // null if not recurring
+    private Integer recurrenceEndDay; // days since baseDate
+    private String notes;
+    private List<String> specialRequirements;
+}
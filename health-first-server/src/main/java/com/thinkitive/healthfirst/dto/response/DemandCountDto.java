@@ -0,0 +1,17 @@
+package com.thinkitive.healthfirst.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DemandCountDto {
+    
+    private String value;
+    private Long searches; // estimated for specializations and cities, exact for filter combinations
+    private Long emptyResults;
+}
@@ -0,0 +1,22 @@
+package com.thinkitive.healthfirst.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FreeGapDto {
+    
+    private UUID providerId;
+    private LocalDate date;
+    private LocalTime startTime; // provider's local time
+    private Integer freeMinutes; // length of the free run starting at startTime
+}
@@ -0,0 +1,21 @@
+package com.thinkitive.healthfirst.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlyAvailabilitySummaryDto {
+    
+    private UUID providerId;
+    private String month; // yyyy-MM
+    private Integer availableDays; // bit n set when day n + 1 has open slots
+    private int[] openSlots; // open slots per day of the month
+    private Integer totalOpenSlots;
+}
@@ -0,0 +1,16 @@
+package com.thinkitive.healthfirst.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbyAvailabilityDto {
+    
+    private Double distanceKm;
+    private AvailabilityResponseDto availability;
+}
@@ -0,0 +1,21 @@
+package com.thinkitive.healthfirst.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProviderSuggestionDto {
+    
+    private UUID providerId;
+    private String firstName;
+    private String lastName;
+    private String specialization;
+    private Double score; // higher is a better match
+}
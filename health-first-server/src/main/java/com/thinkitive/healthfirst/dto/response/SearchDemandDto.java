@@ -0,0 +1,24 @@
+package com.thinkitive.healthfirst.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchDemandDto {
+    
+    private Integer windowMinutes; // the requested window rounded up to whole buckets
+    private Long searches;
+    private Long emptyResults;
+    private Double emptyResultRatio;
+    private Long distinctSearchers; // estimated
+    private List<DemandCountDto> topSpecializations;
+    private List<DemandCountDto> topCities;
+    private List<DemandCountDto> topFilterCombinations;
+}
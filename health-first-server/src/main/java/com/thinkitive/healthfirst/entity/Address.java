@@ -18,6 +18,8 @@ public class Address {
     private String state;
     private String zipCode;
     private String country;
+    private Double latitude;
+    private Double longitude;
     
     public static Address toEntity(AddressDto dto) {
         if (dto == null) {
@@ -29,6 +31,8 @@ public class Address {
                 .state(dto.getState())
                 .zipCode(dto.getZipCode())
                 .country(dto.getCountry())
+                .latitude(dto.getLatitude())
+                .longitude(dto.getLongitude())
                 .build();
     }
     
@@ -42,6 +46,8 @@ public class Address {
                 .state(entity.getState())
                 .zipCode(entity.getZipCode())
                 .country(entity.getCountry())
+                .latitude(entity.getLatitude())
+                .longitude(entity.getLongitude())
                 .build();
     }
     
@@ -54,5 +60,7 @@ public class Address {
         entity.setState(dto.getState());
         entity.setZipCode(dto.getZipCode());
         entity.setCountry(dto.getCountry());
+        entity.setLatitude(dto.getLatitude());
+        entity.setLongitude(dto.getLongitude());
     }
 } 
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.thinkitive.healthfirst.entity;
+
+import com.thinkitive.healthfirst.event.AvailabilityChangeType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Append-only change log of availability writes. The identity column is the monotonic
+ * sequence handed out to clients as their sync token. Entries older than the retention
+ * period are pruned, see {@code AvailabilityChangeLogger}.
+ */
+@Entity
+@Table(name = "availability_changes",
+       indexes = {
+           @Index(name = "idx_availability_changes_provider_seq", columnList = "provider_id, change_seq"),
+           @Index(name = "idx_availability_changes_recorded_at", columnList = "recorded_at DESC")
+       })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AvailabilityChangeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "change_seq")
+    private Long sequence;
+    
+    @Column(name = "provider_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID providerId;
+    
+    @Column(name = "availability_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID availabilityId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private AvailabilityChangeType changeType;
+    
+    @Column(nullable = false)
+    private Instant recordedAt;
+}
@@ -2,15 +2,18 @@ package com.thinkitive.healthfirst.entity;
 
 import com.thinkitive.healthfirst.dto.request.AvailabilityRequestDto;
 import com.thinkitive.healthfirst.dto.response.AvailabilityResponseDto;
-import jakarta.persistence.CollectionTable;
+import com.thinkitive.healthfirst.index.AvailabilityTimes;
 import jakarta.persistence.Column;
-import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,6 +21,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
@@ -25,7 +30,11 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "availability")
+@Table(name = "availability", indexes = {
+        // time-window searches are one range scan on the start instant per status
+        @Index(name = "idx_availability_status_start_utc", columnList = "status, start_utc"),
+        @Index(name = "idx_availability_location", columnList = "location_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -49,6 +58,13 @@ public class AvailabilityEntity extends BaseEntity {
     @Column(nullable = false)
     private String timezone;
     
+    // date and times resolved in timezone, kept in step on every write
+    @Column(name = "start_utc")
+    private Instant startInstant;
+    
+    @Column(name = "end_utc")
+    private Instant endInstant;
+    
     @Column(nullable = false)
     @Builder.Default
     private Boolean isRecurring = false;
@@ -82,7 +98,9 @@ public class AvailabilityEntity extends BaseEntity {
     @Column(nullable = false)
     private AppointmentType appointmentType;
     
-    @Embedded
+    // shared with every other availability at the same place; set by the service, which resolves it
+    @ManyToOne
+    @JoinColumn(name = "location_id")
     private Location location;
     
     @Embedded
@@ -90,13 +108,37 @@ public class AvailabilityEntity extends BaseEntity {
     
     private String notes;
     
-    @ElementCollection
-    @CollectionTable(name = "availability_special_requirements", 
-                     joinColumns = @JoinColumn(name = "availability_id"))
-    @Column(name = "requirement")
+    // a JSON array in the row itself, so loading a slot needs no second query
+    @Convert(converter = StringListConverter.class)
+    @Column(name = "special_requirements", length = 4000)
     @Builder.Default
     private List<String> specialRequirements = new ArrayList<>();
     
+    // Also run by updateEntity, so that the DTO mapped before the flush carries the new instants
+    @PrePersist
+    @PreUpdate
+    public void computeInstants() {
+        if (date != null && startTime != null && endTime != null) {
+            startInstant = AvailabilityTimes.toInstant(date, startTime, timezone);
+            endInstant = AvailabilityTimes.toInstant(date, endTime, timezone);
+        }
+    }
+    
+    public int getTotalCapacity() {
+        return slotCount(startTime, endTime, slotDuration, breakDuration)
+                * (maxAppointmentsPerSlot != null ? maxAppointmentsPerSlot : 1);
+    }
+    
+    public static int slotCount(LocalTime startTime, LocalTime endTime, Integer slotDuration, Integer breakDuration) {
+        if (startTime == null || endTime == null || slotDuration == null || slotDuration <= 0) {
+            return 0;
+        }
+        int windowMinutes = (int) Duration.between(startTime, endTime).toMinutes();
+        int breakMinutes = breakDuration != null ? breakDuration : 0;
+        // the last slot in the window is not followed by a break
+        return windowMinutes < slotDuration ? 0 : 1 + (windowMinutes - slotDuration) / (slotDuration + breakMinutes);
+    }
+    
     public static AvailabilityEntity toEntity(AvailabilityRequestDto dto) {
         if (dto == null) {
             return null;
@@ -115,11 +157,10 @@ public class AvailabilityEntity extends BaseEntity {
                 .maxAppointmentsPerSlot(dto.getMaxAppointmentsPerSlot())
                 .currentAppointments(0)
                 .appointmentType(dto.getAppointmentType())
-                .location(Location.toEntity(dto.getLocation()))
                 .pricing(Pricing.toEntity(dto.getPricing()))
                 .notes(dto.getNotes())
                 .specialRequirements(dto.getSpecialRequirements() != null ? new ArrayList<>(dto.getSpecialRequirements()) : new ArrayList<>())
-                // provider will be set separately
+                // provider and location will be set separately
                 .build();
     }
     
@@ -138,11 +179,13 @@ public class AvailabilityEntity extends BaseEntity {
         
         String providerName = "";
         String specialization = "";
+        Integer yearsOfExperience = null;
         UUID providerId = null;
         
         if (entity.getProvider() != null) {
             providerName = entity.getProvider().getFirstName() + " " + entity.getProvider().getLastName();
             specialization = entity.getProvider().getSpecialization();
+            yearsOfExperience = entity.getProvider().getYearsOfExperience();
             providerId = entity.getProvider().getId();
         }
         
@@ -151,10 +194,13 @@ public class AvailabilityEntity extends BaseEntity {
                 .providerId(providerId)
                 .providerName(providerName)
                 .specialization(specialization)
+                .yearsOfExperience(yearsOfExperience)
                 .date(entity.getDate())
                 .startTime(entity.getStartTime())
                 .endTime(entity.getEndTime())
                 .timezone(entity.getTimezone())
+                .startInstant(entity.getStartInstant())
+                .endInstant(entity.getEndInstant())
                 .isRecurring(entity.getIsRecurring())
                 .recurrencePattern(entity.getRecurrencePattern())
                 .recurrenceEndDate(entity.getRecurrenceEndDate())
@@ -167,7 +213,8 @@ public class AvailabilityEntity extends BaseEntity {
                 .location(entity.getLocation() != null ? Location.toDto(entity.getLocation()) : null)
                 .pricing(entity.getPricing() != null ? Pricing.toDto(entity.getPricing()) : null)
                 .notes(entity.getNotes())
-                .specialRequirements(entity.getSpecialRequirements())
+                .specialRequirements(entity.getSpecialRequirements() != null
+                        ? new ArrayList<>(entity.getSpecialRequirements()) : null)
                 .build();
     }
     
@@ -189,14 +236,6 @@ public class AvailabilityEntity extends BaseEntity {
         entity.setAppointmentType(dto.getAppointmentType());
         entity.setNotes(dto.getNotes());
         
-        if (dto.getLocation() != null) {
-            if (entity.getLocation() == null) {
-                entity.setLocation(Location.toEntity(dto.getLocation()));
-            } else {
-                Location.updateEntity(dto.getLocation(), entity.getLocation());
-            }
-        }
-        
         if (dto.getPricing() != null) {
             if (entity.getPricing() == null) {
                 entity.setPricing(Pricing.toEntity(dto.getPricing()));
@@ -208,6 +247,7 @@ public class AvailabilityEntity extends BaseEntity {
         if (dto.getSpecialRequirements() != null) {
             entity.setSpecialRequirements(new ArrayList<>(dto.getSpecialRequirements()));
         }
-        // provider and status are not updated here
+        // provider, location and status are not updated here
+        entity.computeInstants();
     }
 } 
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.thinkitive.healthfirst.entity;
+
+import com.thinkitive.healthfirst.dto.request.AddressDto;
+import com.thinkitive.healthfirst.dto.response.AvailabilityResponseDto;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * Search read model: one row per open future availability holding only the fields search
+ * filters, ranks or facets on, with the provider's columns copied in so no query needs a
+ * join. Maintained inside every writing transaction; see {@code AvailabilitySearchModelUpdater}.
+ */
+@Entity
+@Table(name = "availability_search", indexes = {
+        @Index(name = "idx_availability_search_date", columnList = "date, start_time"),
+        @Index(name = "idx_availability_search_specialization", columnList = "specialization, date"),
+        @Index(name = "idx_availability_search_type", columnList = "appointment_type, date"),
+        @Index(name = "idx_availability_search_city", columnList = "city, date"),
+        @Index(name = "idx_availability_search_provider", columnList = "provider_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AvailabilitySearchEntity {
+
+    @Id
+    @Column(name = "availability_id", columnDefinition = "BINARY(16)")
+    private UUID availabilityId;
+    
+    @Column(name = "provider_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID providerId;
+    
+    @Column(name = "date", nullable = false)
+    private LocalDate date;
+    
+    @Column(name = "start_time", nullable = false)
+    private LocalTime startTime;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "appointment_type", nullable = false)
+    private AppointmentType appointmentType;
+    
+    @Column(name = "specialization")
+    private String specialization;
+    
+    @Column(name = "city")
+    private String city;
+    
+    private String state;
+    
+    private String zipCode;
+    
+    private Boolean insuranceAccepted;
+    
+    private Double baseFee;
+    
+    private Integer yearsOfExperience;
+    
+    /**
+     * Whether the availability belongs in the read model: AVAILABLE and not in the past.
+     */
+    public static boolean isSearchable(AvailabilityResponseDto availability) {
+        return availability.getStatus() == AvailabilityStatus.AVAILABLE
+                && !availability.getDate().isBefore(LocalDate.now());
+    }
+    
+    public static AvailabilitySearchEntity toEntity(AvailabilityResponseDto availability) {
+        if (availability == null) {
+            return null;
+        }
+        AddressDto address = availability.getLocation() != null ? availability.getLocation().getAddress() : null;
+        return AvailabilitySearchEntity.builder()
+                .availabilityId(availability.getId())
+                .providerId(availability.getProviderId())
+                .date(availability.getDate())
+                .startTime(availability.getStartTime())
+                .appointmentType(availability.getAppointmentType())
+                .specialization(availability.getSpecialization())
+                .city(address != null ? address.getCity() : null)
+                .state(address != null ? address.getState() : null)
+                .zipCode(address != null ? address.getZipCode() : null)
+                .insuranceAccepted(availability.getPricing() != null
+                        ? availability.getPricing().getInsuranceAccepted() : null)
+                .baseFee(availability.getPricing() != null ? availability.getPricing().getBaseFee() : null)
+                .yearsOfExperience(availability.getYearsOfExperience())
+                .build();
+    }
+}
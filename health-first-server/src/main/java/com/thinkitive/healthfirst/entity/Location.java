@@ -1,19 +1,43 @@
 package com.thinkitive.healthfirst.entity;
 
+import com.thinkitive.healthfirst.dto.request.AddressDto;
 import com.thinkitive.healthfirst.dto.request.LocationDto;
-import jakarta.persistence.Embeddable;
+import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
-@Data
-@Builder
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * A place where availability is offered, stored once and shared by every availability at
+ * that place. The place fields of a row never change after insert: an availability that
+ * moves is pointed at another row, found by the fingerprint of its normalized fields.
+ */
+@Entity
+// a page of availabilities loads its handful of distinct locations in one query
+@BatchSize(size = 100)
+@Table(name = "locations", indexes = {
+        @Index(name = "idx_locations_fingerprint", columnList = "fingerprint", unique = true),
+        @Index(name = "idx_locations_city_state_zip", columnList = "city, state, zip_code")
+})
+@Getter
+@Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Embeddable
-public class Location {
+@Builder
+public class Location extends BaseEntity {
+    
     private String type; // e.g., CLINIC, HOSPITAL, VIRTUAL
     
     @Embedded
@@ -21,6 +45,9 @@ public class Location {
     
     private String roomNumber;
     
+    @Column(nullable = false, length = 64)
+    private String fingerprint;
+    
     public static Location toEntity(LocationDto dto) {
         if (dto == null) {
             return null;
@@ -29,6 +56,7 @@ public class Location {
                 .type(dto.getType())
                 .address(Address.toEntity(dto.getAddress()))
                 .roomNumber(dto.getRoomNumber())
+                .fingerprint(fingerprintOf(dto))
                 .build();
     }
     
@@ -43,19 +71,26 @@ public class Location {
                 .build();
     }
     
-    public static void updateEntity(LocationDto dto, Location entity) {
-        if (dto == null || entity == null) {
-            return;
-        }
-        entity.setType(dto.getType());
-        entity.setRoomNumber(dto.getRoomNumber());
-        
-        if (dto.getAddress() != null) {
-            if (entity.getAddress() == null) {
-                entity.setAddress(Address.toEntity(dto.getAddress()));
-            } else {
-                Address.updateEntity(dto.getAddress(), entity.getAddress());
-            }
+    /**
+     * SHA-256 over the trimmed fields, so that the same place entered with stray spacing
+     * resolves to one row. Case is kept: correcting the case of a street or city is a real
+     * edit and points the availability at a row with the corrected value.
+     */
+    public static String fingerprintOf(LocationDto dto) {
+        AddressDto address = dto.getAddress() != null ? dto.getAddress() : new AddressDto();
+        String key = String.join("\u001f", normalize(dto.getType()), normalize(address.getStreet()),
+                normalize(address.getCity()), normalize(address.getState()), normalize(address.getZipCode()),
+                normalize(address.getCountry()), String.valueOf(address.getLatitude()),
+                String.valueOf(address.getLongitude()), normalize(dto.getRoomNumber()));
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
         }
     }
-} 
\ No newline at end of file
+    
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim();
+    }
+}
@@ -2,5 +2,6 @@ package com.thinkitive.healthfirst.entity;
 
 public enum UserRole {
     PROVIDER,
-    PATIENT
+    PATIENT,
+    ADMIN
 } 
\ No newline at end of file
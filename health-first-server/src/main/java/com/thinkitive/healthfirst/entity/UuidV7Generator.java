@@ -0,0 +1,62 @@
+package com.thinkitive.healthfirst.entity;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+
+/**
+ * RFC 9562 version 7 UUIDs: 48 bits of Unix milliseconds, then a 12-bit counter in
+ * {@code rand_a} that keeps ids from this process strictly increasing within a
+ * millisecond, then 62 random bits. Stored as BINARY(16) they sort by creation time.
+ * Ids created before this generator keep their random values.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int COUNTER_BITS = 12;
+    private static final int MAX_COUNTER = (1 << COUNTER_BITS) - 1;
+
+    private static long lastMillis;
+    private static int counter;
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    static UUID next() {
+        long millis;
+        int sequence;
+        synchronized (UuidV7Generator.class) {
+            long now = System.currentTimeMillis();
+            if (now > lastMillis) {
+                lastMillis = now;
+                // a random start in the lower half leaves room to count up within the millisecond
+                counter = RANDOM.nextInt(MAX_COUNTER >>> 1);
+            } else if (counter < MAX_COUNTER) {
+                // same millisecond, or the clock stepped back: stay on the last timestamp
+                counter++;
+            } else {
+                // counter exhausted: borrow the next millisecond
+                lastMillis++;
+                counter = 0;
+            }
+            millis = lastMillis;
+            sequence = counter;
+        }
+        long mostSignificantBits = millis << 16 | 0x7000L | sequence;
+        long leastSignificantBits = RANDOM.nextLong() & 0x3fffffffffffffffL | 0x8000000000000000L;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+}
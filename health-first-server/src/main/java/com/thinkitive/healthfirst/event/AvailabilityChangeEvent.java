@@ -0,0 +1,42 @@
+package com.thinkitive.healthfirst.event;
+
+import com.thinkitive.healthfirst.dto.response.AvailabilityResponseDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class AvailabilityChangeEvent {
+    
+    private final AvailabilityChangeType type;
+    private final UUID availabilityId;
+    private final UUID providerId;
+    private final AvailabilityResponseDto availability; // state after the change, last known state for deletes
+    private final AvailabilityResponseDto previous; // state before an update, null otherwise
+    
+    public static AvailabilityChangeEvent created(AvailabilityResponseDto availability) {
+        return new AvailabilityChangeEvent(AvailabilityChangeType.CREATED,
+                availability.getId(), availability.getProviderId(), availability, null);
+    }
+    
+    public static AvailabilityChangeEvent updated(AvailabilityResponseDto availability) {
+        return updated(null, availability);
+    }
+    
+    public static AvailabilityChangeEvent updated(AvailabilityResponseDto previous, AvailabilityResponseDto availability) {
+        return new AvailabilityChangeEvent(AvailabilityChangeType.UPDATED,
+                availability.getId(), availability.getProviderId(), availability, previous);
+    }
+    
+    public static AvailabilityChangeEvent statusChanged(AvailabilityResponseDto availability) {
+        return new AvailabilityChangeEvent(AvailabilityChangeType.STATUS_CHANGED,
+                availability.getId(), availability.getProviderId(), availability, null);
+    }
+    
+    public static AvailabilityChangeEvent deleted(AvailabilityResponseDto availability) {
+        return new AvailabilityChangeEvent(AvailabilityChangeType.DELETED,
+                availability.getId(), availability.getProviderId(), availability, null);
+    }
+}
@@ -0,0 +1,55 @@
+package com.thinkitive.healthfirst.event;
+
+import com.thinkitive.healthfirst.entity.AvailabilityChangeEntity;
+import com.thinkitive.healthfirst.repository.AvailabilityChangeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AvailabilityChangeLogger {
+
+    private final AvailabilityChangeRepository availabilityChangeRepository;
+
+    @Value("${availability.changes.retention-days:30}")
+    private int retentionDays;
+
+    // Runs inside the writing transaction so the log entry commits or rolls back with the change
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onAvailabilityChange(AvailabilityChangeEvent event) {
+        availabilityChangeRepository.save(AvailabilityChangeEntity.builder()
+                .providerId(event.getProviderId())
+                .availabilityId(event.getAvailabilityId())
+                .changeType(event.getType())
+                .recordedAt(Instant.now())
+                .build());
+    }
+
+    /**
+     * Drops log entries older than the retention period. The cut is made on the sequence, keeping
+     * the newest expired entry, so everything below the oldest retained sequence is gone and sync
+     * can tell a token that predates the log from one that does not.
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${availability.changes.prune-interval-ms:3600000}")
+    public int pruneExpired() {
+        Instant cutoff = Instant.now().minus(Duration.ofDays(retentionDays));
+        int pruned = availabilityChangeRepository.findFirstByRecordedAtBeforeOrderByRecordedAtDesc(cutoff)
+                .map(newestExpired -> availabilityChangeRepository.deleteBySequenceLessThan(newestExpired.getSequence()))
+                .orElse(0);
+        if (pruned > 0) {
+            log.info("Pruned {} availability change log entries older than {} days", pruned, retentionDays);
+        }
+        return pruned;
+    }
+}
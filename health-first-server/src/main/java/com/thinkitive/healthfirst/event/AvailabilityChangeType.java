@@ -0,0 +1,8 @@
+package com.thinkitive.healthfirst.event;
+
+public enum AvailabilityChangeType {
+    CREATED,
+    UPDATED,
+    STATUS_CHANGED,
+    DELETED
+}
@@ -0,0 +1,32 @@
+package com.thinkitive.healthfirst.event;
+
+import com.thinkitive.healthfirst.entity.AvailabilitySearchEntity;
+import com.thinkitive.healthfirst.repository.AvailabilitySearchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class AvailabilitySearchModelUpdater {
+
+    private final AvailabilitySearchRepository availabilitySearchRepository;
+
+    // Runs inside the writing transaction so the read model commits or rolls back with the change
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onAvailabilityChange(AvailabilityChangeEvent event) {
+        if (event.getType() != AvailabilityChangeType.DELETED
+                && AvailabilitySearchEntity.isSearchable(event.getAvailability())) {
+            availabilitySearchRepository.save(AvailabilitySearchEntity.toEntity(event.getAvailability()));
+        } else {
+            availabilitySearchRepository.deleteById(event.getAvailabilityId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onProviderChange(ProviderChangeEvent event) {
+        availabilitySearchRepository.updateProvider(event.getProvider().getId(),
+                event.getProvider().getSpecialization(), event.getProvider().getYearsOfExperience());
+    }
+}
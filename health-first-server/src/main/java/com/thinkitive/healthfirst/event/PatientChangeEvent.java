@@ -0,0 +1,12 @@
+package com.thinkitive.healthfirst.event;
+
+import com.thinkitive.healthfirst.dto.response.PatientResponseDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PatientChangeEvent {
+    
+    private final PatientResponseDto patient; // state after the change
+}
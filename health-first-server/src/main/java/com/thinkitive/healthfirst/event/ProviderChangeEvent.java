@@ -0,0 +1,12 @@
+package com.thinkitive.healthfirst.event;
+
+import com.thinkitive.healthfirst.dto.response.ProviderResponseDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ProviderChangeEvent {
+    
+    private final ProviderResponseDto provider; // state after the change
+}
@@ -0,0 +1,35 @@
+package com.thinkitive.healthfirst.grpc;
+
+import com.thinkitive.healthfirst.exception.BadRequestException;
+import com.thinkitive.healthfirst.exception.ResourceNotFoundException;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.AccessDeniedException;
+
+/**
+ * Maps service exceptions to the status codes matching the REST error responses. Unexpected
+ * failures are logged here and reported with a generic description so internals never reach the caller.
+ */
+@Slf4j
+final class GrpcExceptionMapper {
+
+    private GrpcExceptionMapper() {
+    }
+
+    static StatusRuntimeException toStatus(RuntimeException ex) {
+        if (ex instanceof ResourceNotFoundException) {
+            return Status.NOT_FOUND.withDescription(ex.getMessage()).asRuntimeException();
+        }
+        if (ex instanceof BadRequestException || ex instanceof IllegalArgumentException) {
+            return Status.INVALID_ARGUMENT.withDescription(ex.getMessage()).asRuntimeException();
+        }
+        if (ex instanceof AccessDeniedException) {
+            return Status.PERMISSION_DENIED
+                    .withDescription("Access denied: You don't have permission to access this resource")
+                    .asRuntimeException();
+        }
+        log.error("gRPC call failed", ex);
+        return Status.INTERNAL.withDescription("An unexpected error occurred").asRuntimeException();
+    }
+}
@@ -0,0 +1,70 @@
+package com.thinkitive.healthfirst.grpc;
+
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@ConditionalOnProperty(name = "grpc.server.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class GrpcServerLifecycle implements SmartLifecycle {
+
+    private final SchedulingGrpcService schedulingGrpcService;
+    private final JwtServerInterceptor jwtServerInterceptor;
+
+    @Value("${grpc.server.port:9090}")
+    private int port;
+
+    @Value("${grpc.server.flow-control-window:1048576}")
+    private int flowControlWindow;
+
+    private volatile Server server;
+
+    @Override
+    public void start() {
+        try {
+            server = NettyServerBuilder.forPort(port)
+                    .flowControlWindow(flowControlWindow)
+                    .addService(ServerInterceptors.intercept(schedulingGrpcService, jwtServerInterceptor))
+                    .build()
+                    .start();
+            log.info("gRPC server started on port {}", port);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not start gRPC server on port " + port, ex);
+        }
+    }
+
+    @Override
+    public void stop() {
+        Server current = server;
+        if (current == null) {
+            return;
+        }
+        current.shutdown();
+        try {
+            if (!current.awaitTermination(10, TimeUnit.SECONDS)) {
+                current.shutdownNow();
+            }
+        } catch (InterruptedException ex) {
+            current.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        server = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+}
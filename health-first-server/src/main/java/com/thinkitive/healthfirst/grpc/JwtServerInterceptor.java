@@ -0,0 +1,121 @@
+package com.thinkitive.healthfirst.grpc;
+
+import com.thinkitive.healthfirst.security.CustomUserDetailsService;
+import com.thinkitive.healthfirst.security.JwtTokenProvider;
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * Authenticates each call from its bearer token the same way {@code JwtAuthenticationFilter} does for
+ * REST, and exposes the resulting {@link Authentication} both in the gRPC {@link Context} and in the
+ * {@link SecurityContextHolder} while the call's listener callbacks run, so service code can apply the
+ * same role rules and see the same principal.
+ */
+@Component
+@RequiredArgsConstructor
+public class JwtServerInterceptor implements ServerInterceptor {
+
+    static final Context.Key<Authentication> AUTHENTICATION = Context.key("authentication");
+
+    private static final Metadata.Key<String> AUTHORIZATION =
+            Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+
+    private final JwtTokenProvider tokenProvider;
+    private final CustomUserDetailsService customUserDetailsService;
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+            ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+        Authentication authentication = authenticate(headers.get(AUTHORIZATION));
+        if (authentication == null) {
+            call.close(Status.UNAUTHENTICATED.withDescription("A valid bearer token is required"), new Metadata());
+            return new ServerCall.Listener<>() {
+            };
+        }
+
+        Context context = Context.current().withValue(AUTHENTICATION, authentication);
+        return new SecurityContextListener<>(Contexts.interceptCall(context, call, headers, next), authentication);
+    }
+
+    private Authentication authenticate(String bearerToken) {
+        if (!StringUtils.hasText(bearerToken) || !bearerToken.startsWith("Bearer ")) {
+            return null;
+        }
+        String jwt = bearerToken.substring(7);
+        if (!tokenProvider.validateToken(jwt)) {
+            return null;
+        }
+        try {
+            UserDetails userDetails = customUserDetailsService.loadUserByUsername(tokenProvider.getUsernameFromToken(jwt));
+            return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        } catch (UsernameNotFoundException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Listener callbacks run on the server's executor threads, so the security context is installed
+     * around each one and the thread's previous context restored afterwards.
+     */
+    private static final class SecurityContextListener<ReqT>
+            extends ForwardingServerCallListener.SimpleForwardingServerCallListener<ReqT> {
+
+        private final Authentication authentication;
+
+        SecurityContextListener(ServerCall.Listener<ReqT> delegate, Authentication authentication) {
+            super(delegate);
+            this.authentication = authentication;
+        }
+
+        @Override
+        public void onMessage(ReqT message) {
+            runAuthenticated(() -> super.onMessage(message));
+        }
+
+        @Override
+        public void onHalfClose() {
+            runAuthenticated(super::onHalfClose);
+        }
+
+        @Override
+        public void onCancel() {
+            runAuthenticated(super::onCancel);
+        }
+
+        @Override
+        public void onComplete() {
+            runAuthenticated(super::onComplete);
+        }
+
+        @Override
+        public void onReady() {
+            runAuthenticated(super::onReady);
+        }
+
+        private void runAuthenticated(Runnable callback) {
+            SecurityContext previous = SecurityContextHolder.getContext();
+            SecurityContextHolder.setContext(new SecurityContextImpl(authentication));
+            try {
+                callback.run();
+            } finally {
+                SecurityContextHolder.setContext(previous);
+            }
+        }
+    }
+}
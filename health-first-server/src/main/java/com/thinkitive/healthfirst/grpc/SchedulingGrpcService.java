@@ -0,0 +1,184 @@
+package com.thinkitive.healthfirst.grpc;
+
+import com.thinkitive.healthfirst.dto.request.AvailabilitySearchRequestDto;
+import com.thinkitive.healthfirst.dto.response.AvailabilityResponseDto;
+import com.thinkitive.healthfirst.dto.response.ProviderResponseDto;
+import com.thinkitive.healthfirst.entity.AppointmentType;
+import com.thinkitive.healthfirst.entity.UserRole;
+import com.thinkitive.healthfirst.grpc.v1.Availability;
+import com.thinkitive.healthfirst.grpc.v1.BookAvailabilityRequest;
+import com.thinkitive.healthfirst.grpc.v1.GetProviderRequest;
+import com.thinkitive.healthfirst.grpc.v1.Provider;
+import com.thinkitive.healthfirst.grpc.v1.SchedulingServiceGrpc;
+import com.thinkitive.healthfirst.grpc.v1.SearchAvailabilityRequest;
+import com.thinkitive.healthfirst.service.AvailabilityService;
+import com.thinkitive.healthfirst.service.ProviderService;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+@RequiredArgsConstructor
+public class SchedulingGrpcService extends SchedulingServiceGrpc.SchedulingServiceImplBase {
+
+    private final ProviderService providerService;
+    private final AvailabilityService availabilityService;
+
+    @Override
+    public void getProvider(GetProviderRequest request, StreamObserver<Provider> responseObserver) {
+        try {
+            ProviderResponseDto provider = providerService.getProviderById(UUID.fromString(request.getProviderId()));
+            responseObserver.onNext(toProto(provider));
+            responseObserver.onCompleted();
+        } catch (RuntimeException ex) {
+            responseObserver.onError(GrpcExceptionMapper.toStatus(ex));
+        }
+    }
+
+    @Override
+    public void searchAvailability(SearchAvailabilityRequest request, StreamObserver<Availability> responseObserver) {
+        List<AvailabilityResponseDto> availabilities;
+        try {
+            availabilities = availabilityService.searchAvailabilities(toSearchRequest(request));
+        } catch (RuntimeException ex) {
+            responseObserver.onError(GrpcExceptionMapper.toStatus(ex));
+            return;
+        }
+
+        ServerCallStreamObserver<Availability> serverObserver = (ServerCallStreamObserver<Availability>) responseObserver;
+        Iterator<AvailabilityResponseDto> iterator = availabilities.iterator();
+        AtomicBoolean done = new AtomicBoolean();
+
+        // Only write while the transport says the peer can take more (HTTP/2 flow control);
+        // the handler is re-invoked once the consumer has drained its window
+        Runnable drain = () -> {
+            while (!done.get() && serverObserver.isReady() && iterator.hasNext()) {
+                serverObserver.onNext(toProto(iterator.next()));
+            }
+            if (!iterator.hasNext() && done.compareAndSet(false, true)) {
+                serverObserver.onCompleted();
+            }
+        };
+        serverObserver.setOnCancelHandler(() -> done.set(true));
+        serverObserver.setOnReadyHandler(drain);
+        drain.run();
+    }
+
+    @Override
+    public void bookAvailability(BookAvailabilityRequest request, StreamObserver<Availability> responseObserver) {
+        try {
+            // bookings are made by patients, never by a provider on anyone's schedule
+            requireRole(UserRole.PATIENT);
+            AvailabilityResponseDto availability =
+                    availabilityService.bookAvailability(UUID.fromString(request.getAvailabilityId()));
+            responseObserver.onNext(toProto(availability));
+            responseObserver.onCompleted();
+        } catch (RuntimeException ex) {
+            responseObserver.onError(GrpcExceptionMapper.toStatus(ex));
+        }
+    }
+
+    private static void requireRole(UserRole role) {
+        Authentication authentication = JwtServerInterceptor.AUTHENTICATION.get();
+        String authority = "ROLE_" + role.name();
+        if (authentication == null || authentication.getAuthorities().stream()
+                .noneMatch(granted -> authority.equals(granted.getAuthority()))) {
+            throw new AccessDeniedException("Requires role " + role);
+        }
+    }
+
+    private static AvailabilitySearchRequestDto toSearchRequest(SearchAvailabilityRequest request) {
+        return AvailabilitySearchRequestDto.builder()
+                .startDate(LocalDate.ofEpochDay(request.getStartEpochDay()))
+                .endDate(LocalDate.ofEpochDay(request.getEndEpochDay()))
+                .specialization(emptyToNull(request.getSpecialization()))
+                .appointmentType(request.getAppointmentType().isEmpty()
+                        ? null : AppointmentType.valueOf(request.getAppointmentType()))
+                .city(emptyToNull(request.getCity()))
+                .state(emptyToNull(request.getState()))
+                .zipCode(emptyToNull(request.getZipCode()))
+                .insuranceAccepted(request.hasInsuranceAccepted() ? request.getInsuranceAccepted() : null)
+                .build();
+    }
+
+    private static Provider toProto(ProviderResponseDto provider) {
+        Provider.Builder builder = Provider.newBuilder()
+                .setId(provider.getId().toString())
+                .setFirstName(provider.getFirstName())
+                .setLastName(provider.getLastName())
+                .setSpecialization(provider.getSpecialization());
+        if (provider.getYearsOfExperience() != null) {
+            builder.setYearsOfExperience(provider.getYearsOfExperience());
+        }
+        if (provider.getVerificationStatus() != null) {
+            builder.setVerificationStatus(provider.getVerificationStatus().name());
+        }
+        return builder.build();
+    }
+
+    private static Availability toProto(AvailabilityResponseDto availability) {
+        Availability.Builder builder = Availability.newBuilder()
+                .setId(availability.getId().toString())
+                .setEpochDay(availability.getDate().toEpochDay())
+                .setStartMinute(minuteOfDay(availability.getStartTime()))
+                .setEndMinute(minuteOfDay(availability.getEndTime()))
+                .setSlotDuration(availability.getSlotDuration())
+                .setStatus(availability.getStatus().name())
+                .setCurrentAppointments(availability.getCurrentAppointments())
+                .setAppointmentType(availability.getAppointmentType().name());
+
+        if (availability.getProviderId() != null) {
+            builder.setProviderId(availability.getProviderId().toString());
+        }
+        if (availability.getProviderName() != null) {
+            builder.setProviderName(availability.getProviderName());
+        }
+        if (availability.getSpecialization() != null) {
+            builder.setSpecialization(availability.getSpecialization());
+        }
+        if (availability.getTimezone() != null) {
+            builder.setTimezone(availability.getTimezone());
+        }
+        if (availability.getBreakDuration() != null) {
+            builder.setBreakDuration(availability.getBreakDuration());
+        }
+        if (availability.getMaxAppointmentsPerSlot() != null) {
+            builder.setMaxAppointmentsPerSlot(availability.getMaxAppointmentsPerSlot());
+        }
+        if (availability.getLocation() != null && availability.getLocation().getAddress() != null) {
+            builder.setCity(nullToEmpty(availability.getLocation().getAddress().getCity()))
+                    .setState(nullToEmpty(availability.getLocation().getAddress().getState()))
+                    .setZipCode(nullToEmpty(availability.getLocation().getAddress().getZipCode()));
+        }
+        if (availability.getPricing() != null) {
+            if (availability.getPricing().getBaseFee() != null) {
+                builder.setBaseFee(availability.getPricing().getBaseFee());
+            }
+            builder.setCurrency(nullToEmpty(availability.getPricing().getCurrency()))
+                    .setInsuranceAccepted(Boolean.TRUE.equals(availability.getPricing().getInsuranceAccepted()));
+        }
+        return builder.build();
+    }
+
+    private static int minuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
@@ -0,0 +1,145 @@
+package com.thinkitive.healthfirst.index;
+
+import com.thinkitive.healthfirst.dto.response.AvailabilityResponseDto;
+import com.thinkitive.healthfirst.dto.response.MonthlyAvailabilitySummaryDto;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Per provider and month: an int bitmap of the days that still have open capacity and
+ * the open-slot count for each day. Each availability's contribution is remembered so an
+ * update or delete can take back exactly what it added.
+ */
+@Component
+public class AvailabilityCalendarIndex implements AvailabilityIndex {
+
+    private final Map<UUID, Contribution> contributions = new HashMap<>();
+    private final Map<UUID, Map<Integer, Month>> providers = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            contributions.clear();
+            providers.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(AvailabilityResponseDto availability) {
+        lock.writeLock().lock();
+        try {
+            withdraw(contributions.remove(availability.getId()));
+
+            int openSlots = SlotCapacity.openCapacity(availability);
+            if (openSlots > 0 && availability.getProviderId() != null) {
+                Contribution contribution = new Contribution(availability.getProviderId(),
+                        monthKey(YearMonth.from(availability.getDate())), availability.getDate().getDayOfMonth() - 1,
+                        openSlots);
+                contributions.put(availability.getId(), contribution);
+                providers.computeIfAbsent(contribution.providerId(), key -> new HashMap<>())
+                        .computeIfAbsent(contribution.month(), key -> new Month())
+                        .add(contribution.day(), openSlots);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(UUID availabilityId) {
+        lock.writeLock().lock();
+        try {
+            withdraw(contributions.remove(availabilityId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Months in {@code [from, to]} with at least one open day, grouped by provider in the
+     * order requested. Months without openings are left out.
+     */
+    public List<MonthlyAvailabilitySummaryDto> summarize(Collection<UUID> providerIds, YearMonth from, YearMonth to) {
+        int first = monthKey(from);
+        int last = monthKey(to);
+        List<MonthlyAvailabilitySummaryDto> summaries = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            for (UUID providerId : providerIds) {
+                Map<Integer, Month> months = providers.get(providerId);
+                if (months == null) {
+                    continue;
+                }
+                for (int key = first; key <= last; key++) {
+                    Month month = months.get(key);
+                    if (month == null || month.availableDays == 0) {
+                        continue;
+                    }
+                    YearMonth yearMonth = YearMonth.of(key / 12, key % 12 + 1);
+                    int[] openSlots = Arrays.copyOf(month.openSlots, yearMonth.lengthOfMonth());
+                    summaries.add(MonthlyAvailabilitySummaryDto.builder()
+                            .providerId(providerId)
+                            .month(yearMonth.toString())
+                            .availableDays(month.availableDays)
+                            .openSlots(openSlots)
+                            .totalOpenSlots(Arrays.stream(openSlots).sum())
+                            .build());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return summaries;
+    }
+
+    private void withdraw(Contribution contribution) {
+        if (contribution == null) {
+            return;
+        }
+        Map<Integer, Month> months = providers.get(contribution.providerId());
+        Month month = months.get(contribution.month());
+        month.add(contribution.day(), -contribution.openSlots());
+        if (month.availableDays == 0) {
+            months.remove(contribution.month());
+            if (months.isEmpty()) {
+                providers.remove(contribution.providerId());
+            }
+        }
+    }
+
+    private static int monthKey(YearMonth month) {
+        return month.getYear() * 12 + month.getMonthValue() - 1;
+    }
+
+    private record Contribution(UUID providerId, int month, int day, int openSlots) {
+    }
+
+    private static final class Month {
+        private int availableDays;
+        private final int[] openSlots = new int[31];
+
+        void add(int day, int slots) {
+            openSlots[day] += slots;
+            if (openSlots[day] > 0) {
+                availableDays |= 1 << day;
+            } else {
+                availableDays &= ~(1 << day);
+            }
+        }
+    }
+}
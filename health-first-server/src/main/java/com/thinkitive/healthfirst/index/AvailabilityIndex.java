@@ -0,0 +1,27 @@
+package com.thinkitive.healthfirst.index;
+
+import com.thinkitive.healthfirst.dto.response.AvailabilityResponseDto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * An in-memory structure derived from availability rows. Implementations are driven by
+ * {@link AvailabilityIndexMaintainer}, which serializes all calls; both operations must
+ * be idempotent because a change can be replayed after a rebuild already saw it.
+ */
+public interface AvailabilityIndex {
+    
+    void clear();
+    
+    void upsert(AvailabilityResponseDto availability);
+    
+    void remove(UUID availabilityId);
+    
+    /**
+     * A page of rows from a rebuild; indexes that pay per write, not per row, override this.
+     */
+    default void upsertAll(List<AvailabilityResponseDto> availabilities) {
+        availabilities.forEach(this::upsert);
+    }
+}
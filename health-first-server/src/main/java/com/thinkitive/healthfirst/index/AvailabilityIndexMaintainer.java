@@ -0,0 +1,117 @@
+package com.thinkitive.healthfirst.index;
+
+import com.thinkitive.healthfirst.dto.response.AvailabilityResponseDto;
+import com.thinkitive.healthfirst.entity.AvailabilityEntity;
+import com.thinkitive.healthfirst.event.AvailabilityChangeEvent;
+import com.thinkitive.healthfirst.event.AvailabilityChangeType;
+import com.thinkitive.healthfirst.repository.AvailabilityRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps every {@link AvailabilityIndex} in step with the availability table: a full
+ * rebuild before the web server accepts traffic, then committed changes as they happen.
+ */
+@Component
+@Slf4j
+public class AvailabilityIndexMaintainer implements SmartLifecycle {
+
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    private final List<AvailabilityIndex> indexes;
+    private final AvailabilityRepository availabilityRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile boolean running;
+
+    public AvailabilityIndexMaintainer(List<AvailabilityIndex> indexes,
+                                       AvailabilityRepository availabilityRepository,
+                                       PlatformTransactionManager transactionManager) {
+        this.indexes = indexes;
+        this.availabilityRepository = availabilityRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public void rebuild() {
+        lock.lock();
+        try {
+            long started = System.nanoTime();
+            indexes.forEach(AvailabilityIndex::clear);
+
+            int page = 0;
+            long rows = 0;
+            boolean hasNext = true;
+            while (hasNext) {
+                int pageNumber = page++;
+                Page<AvailabilityResponseDto> availabilities = readOnlyTransaction.execute(status -> {
+                    Page<AvailabilityEntity> entities = availabilityRepository.findAll(
+                            PageRequest.of(pageNumber, REBUILD_PAGE_SIZE, Sort.by("date", "id")));
+                    return entities.map(AvailabilityEntity::toDto);
+                });
+                indexes.forEach(index -> index.upsertAll(availabilities.getContent()));
+                rows += availabilities.getNumberOfElements();
+                hasNext = availabilities.hasNext();
+            }
+
+            log.info("Rebuilt {} availability indexes from {} rows in {} ms", indexes.size(), rows,
+                    (System.nanoTime() - started) / 1_000_000);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onAvailabilityChange(AvailabilityChangeEvent event) {
+        lock.lock();
+        try {
+            for (AvailabilityIndex index : indexes) {
+                if (event.getType() == AvailabilityChangeType.DELETED) {
+                    index.remove(event.getAvailabilityId());
+                } else {
+                    index.upsert(event.getAvailability());
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<String> getIndexNames() {
+        return indexes.stream().map(index -> index.getClass().getSimpleName()).collect(Collectors.toList());
+    }
+
+    @Override
+    public void start() {
+        rebuild();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // before the embedded web server and the gRPC server start serving
+        return 0;
+    }
+}
@@ -0,0 +1,67 @@
+package com.thinkitive.healthfirst.index;
+
+import com.thinkitive.healthfirst.dto.response.AvailabilityResponseDto;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class AvailabilityTimes {
+
+    // Only ids that resolve are cached, so the map is bounded by the zone database
+    private static final Map<String, ZoneId> ZONES = new ConcurrentHashMap<>();
+
+    private AvailabilityTimes() {
+    }
+
+    public static Instant startOf(AvailabilityResponseDto availability) {
+        return availability.getStartInstant() != null ? availability.getStartInstant()
+                : toInstant(availability.getDate(), availability.getStartTime(), availability.getTimezone());
+    }
+
+    public static Instant endOf(AvailabilityResponseDto availability) {
+        return availability.getEndInstant() != null ? availability.getEndInstant()
+                : toInstant(availability.getDate(), availability.getEndTime(), availability.getTimezone());
+    }
+
+    // Unknown or missing zones are treated as UTC so every availability can be placed on one timeline
+    public static ZoneId zoneOf(String timezone) {
+        ZoneId zone = resolve(timezone);
+        return zone != null ? zone : ZoneOffset.UTC;
+    }
+
+    public static boolean isValidZone(String timezone) {
+        return resolve(timezone) != null;
+    }
+
+    /**
+     * Local wall-clock time in the zone as an instant. A time skipped by a DST gap moves
+     * forward by the length of the gap; a time repeated in an overlap takes the earlier offset.
+     */
+    public static Instant toInstant(LocalDate date, LocalTime time, String timezone) {
+        return LocalDateTime.of(date, time).atZone(zoneOf(timezone)).toInstant();
+    }
+
+    private static ZoneId resolve(String timezone) {
+        if (timezone == null || timezone.isBlank()) {
+            return null;
+        }
+        ZoneId zone = ZONES.get(timezone);
+        if (zone == null) {
+            try {
+                // region ids load their rules here, once per id
+                zone = ZoneId.of(timezone.trim());
+            } catch (DateTimeException ex) {
+                return null;
+            }
+            ZONES.putIfAbsent(timezone, zone);
+        }
+        return zone;
+    }
+}
@@ -0,0 +1,420 @@
+package com.thinkitive.healthfirst.index;
+
+import com.thinkitive.healthfirst.dto.request.AddressDto;
+import com.thinkitive.healthfirst.dto.request.AvailabilitySearchRequestDto;
+import com.thinkitive.healthfirst.dto.request.AvailabilitySort;
+import com.thinkitive.healthfirst.dto.response.AvailabilityResponseDto;
+import com.thinkitive.healthfirst.entity.AvailabilityStatus;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * One compressed bitmap of row ordinals per filterable attribute value, plus one per day,
+ * over availabilities of every status. A search ANDs the bitmaps of its filters and then
+ * intersects the result with each day of the range in order. Price and experience
+ * rankings keep only the best {@code limit} rows in a bounded heap.
+ * <p>
+ * Readers never lock: they work on an immutable {@link Snapshot}. A write copies only the
+ * bitmaps it touches, builds a new snapshot around them and publishes it in one volatile
+ * store. An availability keeps its ordinal for life and ordinals are never reused, so an
+ * older snapshot cannot map a bit to the wrong id; the rebuild compacts them again.
+ */
+@Component
+public class BitmapAvailabilityIndex implements AvailabilityIndex {
+
+    private static final int CHUNK_SHIFT = 12;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final Comparator<Ranked> RANKING = Comparator.comparingDouble(Ranked::value)
+            .thenComparingLong(Ranked::time)
+            .thenComparingInt(Ranked::ordinal);
+
+    private final Map<UUID, Row> rows = new HashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private int nextOrdinal;
+
+    @Override
+    public void clear() {
+        writeLock.lock();
+        try {
+            rows.clear();
+            nextOrdinal = 0;
+            snapshot = Snapshot.EMPTY;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void upsert(AvailabilityResponseDto availability) {
+        upsertAll(List.of(availability));
+    }
+
+    @Override
+    public void upsertAll(List<AvailabilityResponseDto> availabilities) {
+        writeLock.lock();
+        try {
+            Edit edit = new Edit(snapshot);
+            for (AvailabilityResponseDto availability : availabilities) {
+                Row previous = rows.get(availability.getId());
+                int ordinal = previous != null ? previous.ordinal()
+                        : edit.allocate(nextOrdinal++, availability.getId());
+                Row row = new Row(ordinal, (int) availability.getDate().toEpochDay(), keysOf(availability));
+                edit.set(previous, row, availability);
+                rows.put(availability.getId(), row);
+            }
+            snapshot = edit.publish();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void remove(UUID availabilityId) {
+        writeLock.lock();
+        try {
+            Row previous = rows.remove(availabilityId);
+            if (previous != null) {
+                Edit edit = new Edit(snapshot);
+                edit.unset(previous);
+                snapshot = edit.publish();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Ids of rows matching every filter of {@code search}, at most {@code limit} of them, in
+     * the order of {@code sortBy} (default earliest first; ties fall back to date and time).
+     * The status filter defaults to AVAILABLE; filters left empty match everything.
+     */
+    public List<UUID> search(AvailabilitySearchRequestDto search) {
+        Snapshot current = snapshot;
+        int limit = search.getLimit() != null ? search.getLimit() : Integer.MAX_VALUE;
+        AvailabilitySort sort = search.getSortBy() != null ? search.getSortBy() : AvailabilitySort.EARLIEST;
+        RoaringBitmap candidates = candidates(current, search);
+        NavigableMap<Integer, RoaringBitmap> days = current.days().subMap(
+                (int) search.getStartDate().toEpochDay(), true, (int) search.getEndDate().toEpochDay(), true);
+
+        return sort == AvailabilitySort.EARLIEST
+                ? earliest(current, candidates, days, limit)
+                : top(current, candidates, days, sort, limit);
+    }
+
+    public int size() {
+        writeLock.lock();
+        try {
+            return rows.size();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private static RoaringBitmap candidates(Snapshot current, AvailabilitySearchRequestDto search) {
+        AddressDto location = AddressDto.builder()
+                .city(search.getCity())
+                .state(search.getState())
+                .zipCode(search.getZipCode())
+                .build();
+        AvailabilityStatus status = search.getStatus() != null ? search.getStatus() : AvailabilityStatus.AVAILABLE;
+
+        List<RoaringBitmap> filters = new ArrayList<>();
+        for (Key key : keysOf(status, search.getAppointmentType() != null ? search.getAppointmentType().name() : null,
+                search.getSpecialization(), location, search.getInsuranceAccepted())) {
+            RoaringBitmap bitmap = current.attributes().get(key);
+            if (bitmap == null) {
+                return new RoaringBitmap();
+            }
+            filters.add(bitmap);
+        }
+
+        // smallest first, so every intermediate result is at most as large as the rarest value
+        filters.sort(Comparator.comparingInt(RoaringBitmap::getCardinality));
+        RoaringBitmap candidates = filters.get(0);
+        for (int i = 1; i < filters.size() && !candidates.isEmpty(); i++) {
+            candidates = RoaringBitmap.and(candidates, filters.get(i));
+        }
+        return candidates;
+    }
+
+    // Days are visited in order, so only the day that reaches the limit needs sorting past it
+    private static List<UUID> earliest(Snapshot current, RoaringBitmap candidates,
+                                       NavigableMap<Integer, RoaringBitmap> days, int limit) {
+        List<UUID> ids = new ArrayList<>();
+        for (RoaringBitmap day : days.values()) {
+            if (candidates.isEmpty() || ids.size() >= limit) {
+                break;
+            }
+            RoaringBitmap matches = RoaringBitmap.and(candidates, day);
+            // start minute in the high bits, ordinal in the low 32
+            long[] ordered = new long[matches.getCardinality()];
+            int count = 0;
+            IntIterator ordinals = matches.getIntIterator();
+            while (ordinals.hasNext()) {
+                int ordinal = ordinals.next();
+                ordered[count++] = (long) current.startMinute(ordinal) << 32 | ordinal;
+            }
+            Arrays.sort(ordered);
+            for (int i = 0; i < count && ids.size() < limit; i++) {
+                ids.add(current.id((int) ordered[i]));
+            }
+        }
+        return ids;
+    }
+
+    // A max-heap of the best `limit` rows seen so far: memory stays O(limit) however many rows match
+    private static List<UUID> top(Snapshot current, RoaringBitmap candidates,
+                                  NavigableMap<Integer, RoaringBitmap> days, AvailabilitySort sort, int limit) {
+        PriorityQueue<Ranked> best = new PriorityQueue<>(RANKING.reversed());
+        for (Map.Entry<Integer, RoaringBitmap> day : days.entrySet()) {
+            if (candidates.isEmpty()) {
+                break;
+            }
+            IntIterator matches = RoaringBitmap.and(candidates, day.getValue()).getIntIterator();
+            while (matches.hasNext()) {
+                int ordinal = matches.next();
+                double value = current.rankValue(sort, ordinal);
+                long time = (long) day.getKey() * 1440 + current.startMinute(ordinal);
+                if (best.size() < limit) {
+                    best.add(new Ranked(value, time, ordinal));
+                } else if (value < best.peek().value() || (value == best.peek().value() && time < best.peek().time())) {
+                    // days come in order, so an equal value and time can only be a later ordinal on the same day
+                    best.poll();
+                    best.add(new Ranked(value, time, ordinal));
+                }
+            }
+        }
+
+        Ranked[] ordered = best.toArray(new Ranked[0]);
+        Arrays.sort(ordered, RANKING);
+        List<UUID> ids = new ArrayList<>(ordered.length);
+        for (Ranked ranked : ordered) {
+            ids.add(current.id(ranked.ordinal()));
+        }
+        return ids;
+    }
+
+    private static List<Key> keysOf(AvailabilityResponseDto availability) {
+        AddressDto address = availability.getLocation() != null ? availability.getLocation().getAddress() : null;
+        Boolean insuranceAccepted = availability.getPricing() != null
+                ? availability.getPricing().getInsuranceAccepted() : null;
+        return keysOf(availability.getStatus(), availability.getAppointmentType().name(),
+                availability.getSpecialization(), address, insuranceAccepted);
+    }
+
+    private static List<Key> keysOf(AvailabilityStatus status, String appointmentType, String specialization,
+                                    AddressDto address, Boolean insuranceAccepted) {
+        List<Key> keys = new ArrayList<>(7);
+        addKey(keys, Attribute.STATUS, status != null ? status.name() : null);
+        addKey(keys, Attribute.APPOINTMENT_TYPE, appointmentType);
+        addKey(keys, Attribute.SPECIALIZATION, specialization);
+        if (address != null) {
+            addKey(keys, Attribute.CITY, address.getCity());
+            addKey(keys, Attribute.STATE, address.getState());
+            addKey(keys, Attribute.ZIP_CODE, address.getZipCode());
+        }
+        addKey(keys, Attribute.INSURANCE_ACCEPTED, insuranceAccepted != null ? insuranceAccepted.toString() : null);
+        return keys;
+    }
+
+    private static void addKey(List<Key> keys, Attribute attribute, String value) {
+        if (value != null && !value.isBlank()) {
+            keys.add(new Key(attribute, value.trim().toLowerCase(Locale.ROOT)));
+        }
+    }
+
+    private enum Attribute {
+        STATUS, APPOINTMENT_TYPE, SPECIALIZATION, CITY, STATE, ZIP_CODE, INSURANCE_ACCEPTED
+    }
+
+    private record Key(Attribute attribute, String value) {
+    }
+
+    private record Row(int ordinal, int epochDay, List<Key> keys) {
+    }
+
+    private record Ranked(double value, long time, int ordinal) {
+    }
+
+    /**
+     * Per-ordinal values, {@value #CHUNK_SIZE} ordinals to a chunk. Ids are written once,
+     * before any published bitmap holds the ordinal; the ranking values of a changed row are
+     * overwritten in place, so a search racing that change may rank the row by either version.
+     */
+    private static final class Chunk {
+        private final long[] idHigh = new long[CHUNK_SIZE];
+        private final long[] idLow = new long[CHUNK_SIZE];
+        private final short[] startMinute = new short[CHUNK_SIZE];
+        private final double[] baseFee = new double[CHUNK_SIZE];
+        private final short[] yearsOfExperience = new short[CHUNK_SIZE];
+    }
+
+    /**
+     * Everything a reader sees. The maps and bitmaps are never modified once published.
+     */
+    private record Snapshot(Map<Key, RoaringBitmap> attributes, NavigableMap<Integer, RoaringBitmap> days,
+                            Chunk[] chunks) {
+
+        static final Snapshot EMPTY = new Snapshot(Map.of(), Collections.emptyNavigableMap(), new Chunk[0]);
+
+        UUID id(int ordinal) {
+            Chunk chunk = chunks[ordinal >>> CHUNK_SHIFT];
+            return new UUID(chunk.idHigh[ordinal & CHUNK_SIZE - 1], chunk.idLow[ordinal & CHUNK_SIZE - 1]);
+        }
+
+        int startMinute(int ordinal) {
+            return chunks[ordinal >>> CHUNK_SHIFT].startMinute[ordinal & CHUNK_SIZE - 1];
+        }
+
+        // Lower ranks first; rows without a value rank last
+        double rankValue(AvailabilitySort sort, int ordinal) {
+            Chunk chunk = chunks[ordinal >>> CHUNK_SHIFT];
+            if (sort == AvailabilitySort.PRICE) {
+                double fee = chunk.baseFee[ordinal & CHUNK_SIZE - 1];
+                return Double.isNaN(fee) ? Double.POSITIVE_INFINITY : fee;
+            }
+            short years = chunk.yearsOfExperience[ordinal & CHUNK_SIZE - 1];
+            return years < 0 ? Double.POSITIVE_INFINITY : -years;
+        }
+    }
+
+    /**
+     * A batch of writes against one snapshot. A changed row only touches the bitmaps of the
+     * keys it gained or lost. Each bitmap is copied the first time the batch touches it and
+     * modified in place after that, so a rebuild page costs one copy per value; the maps are
+     * copied the first time a bitmap in them is replaced. A write that changes no key (a
+     * booking count or a fee) copies nothing and keeps the current snapshot.
+     */
+    private static final class Edit {
+
+        private final Snapshot base;
+        private final Set<RoaringBitmap> copied = Collections.newSetFromMap(new IdentityHashMap<>());
+        private Map<Key, RoaringBitmap> attributes;
+        private NavigableMap<Integer, RoaringBitmap> days;
+        private Chunk[] chunks;
+
+        Edit(Snapshot base) {
+            this.base = base;
+            this.attributes = base.attributes();
+            this.days = base.days();
+            this.chunks = base.chunks();
+        }
+
+        int allocate(int ordinal, UUID availabilityId) {
+            if (ordinal >>> CHUNK_SHIFT == chunks.length) {
+                chunks = Arrays.copyOf(chunks, chunks.length + 1);
+                chunks[chunks.length - 1] = new Chunk();
+            }
+            Chunk chunk = chunks[ordinal >>> CHUNK_SHIFT];
+            chunk.idHigh[ordinal & CHUNK_SIZE - 1] = availabilityId.getMostSignificantBits();
+            chunk.idLow[ordinal & CHUNK_SIZE - 1] = availabilityId.getLeastSignificantBits();
+            return ordinal;
+        }
+
+        // previous is null for a new row
+        void set(Row previous, Row row, AvailabilityResponseDto availability) {
+            Chunk chunk = chunks[row.ordinal() >>> CHUNK_SHIFT];
+            int slot = row.ordinal() & CHUNK_SIZE - 1;
+            chunk.startMinute[slot] = (short) (availability.getStartTime().toSecondOfDay() / 60);
+            chunk.baseFee[slot] = availability.getPricing() != null && availability.getPricing().getBaseFee() != null
+                    ? availability.getPricing().getBaseFee() : Double.NaN;
+            chunk.yearsOfExperience[slot] = availability.getYearsOfExperience() != null
+                    ? (short) Math.min(Short.MAX_VALUE, availability.getYearsOfExperience()) : -1;
+
+            if (previous != null) {
+                for (Key key : previous.keys()) {
+                    if (!row.keys().contains(key) && contains(attributes, key, row.ordinal())) {
+                        clearBit(mutableAttributes(), key, row.ordinal());
+                    }
+                }
+            }
+            for (Key key : row.keys()) {
+                if (previous == null || !previous.keys().contains(key)) {
+                    writable(mutableAttributes(), key).add(row.ordinal());
+                }
+            }
+            if (previous == null || previous.epochDay() != row.epochDay()) {
+                if (previous != null && contains(days, previous.epochDay(), row.ordinal())) {
+                    clearBit(mutableDays(), previous.epochDay(), row.ordinal());
+                }
+                writable(mutableDays(), row.epochDay()).add(row.ordinal());
+            }
+        }
+
+        void unset(Row row) {
+            for (Key key : row.keys()) {
+                if (contains(attributes, key, row.ordinal())) {
+                    clearBit(mutableAttributes(), key, row.ordinal());
+                }
+            }
+            if (contains(days, row.epochDay(), row.ordinal())) {
+                clearBit(mutableDays(), row.epochDay(), row.ordinal());
+            }
+        }
+
+        Snapshot publish() {
+            if (attributes == base.attributes() && days == base.days() && chunks == base.chunks()) {
+                return base;
+            }
+            copied.forEach(RoaringBitmap::runOptimize);
+            return new Snapshot(attributes, days, chunks);
+        }
+
+        private Map<Key, RoaringBitmap> mutableAttributes() {
+            if (attributes == base.attributes()) {
+                attributes = new HashMap<>(attributes);
+            }
+            return attributes;
+        }
+
+        private NavigableMap<Integer, RoaringBitmap> mutableDays() {
+            if (days == base.days()) {
+                days = new TreeMap<>(days);
+            }
+            return days;
+        }
+
+        private static <K> boolean contains(Map<K, RoaringBitmap> bitmaps, K key, int ordinal) {
+            RoaringBitmap bitmap = bitmaps.get(key);
+            return bitmap != null && bitmap.contains(ordinal);
+        }
+
+        private <K> RoaringBitmap writable(Map<K, RoaringBitmap> bitmaps, K key) {
+            RoaringBitmap bitmap = bitmaps.get(key);
+            if (bitmap == null || !copied.contains(bitmap)) {
+                bitmap = bitmap == null ? new RoaringBitmap() : bitmap.clone();
+                copied.add(bitmap);
+                bitmaps.put(key, bitmap);
+            }
+            return bitmap;
+        }
+
+        private <K> void clearBit(Map<K, RoaringBitmap> bitmaps, K key, int ordinal) {
+            RoaringBitmap bitmap = writable(bitmaps, key);
+            bitmap.remove(ordinal);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(key);
+                copied.remove(bitmap);
+            }
+        }
+    }
+}
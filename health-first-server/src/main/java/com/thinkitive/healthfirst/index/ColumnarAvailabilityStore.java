@@ -0,0 +1,283 @@
+package com.thinkitive.healthfirst.index;
+
+import com.thinkitive.healthfirst.dto.request.AddressDto;
+import com.thinkitive.healthfirst.dto.request.AvailabilitySearchRequestDto;
+import com.thinkitive.healthfirst.dto.response.AvailabilityResponseDto;
+import com.thinkitive.healthfirst.entity.AvailabilityStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * AVAILABLE rows laid out as parallel primitive arrays so search filters run as one tight
+ * loop. Strings are dictionary-encoded (case-folded, as search compares them ignoring
+ * case) and a deleted row's slot is reused by the next insert. Every block of rows keeps
+ * the range of days it holds, so a date-range scan skips blocks that cannot match; the
+ * rebuild loads rows in date order to keep those ranges narrow.
+ */
+@Component
+public class ColumnarAvailabilityStore implements AvailabilityIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int BLOCK_SHIFT = 10;
+    private static final int ABSENT = -1;
+    private static final byte INSURANCE_UNKNOWN = 0;
+    private static final byte INSURANCE_NO = 1;
+    private static final byte INSURANCE_YES = 2;
+
+    private final Map<UUID, Integer> rows = new HashMap<>();
+    private final Map<String, Integer> dictionary = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int size;
+    private int[] freeRows = new int[16];
+    private int freeCount;
+
+    private long[] live;
+    private long[] idHigh;
+    private long[] idLow;
+    private int[] epochDay;
+    private int[] blockMinDay;
+    private int[] blockMaxDay;
+    private short[] startMinute;
+    private short[] endMinute;
+    private byte[] appointmentType;
+    private int[] specialization;
+    private int[] city;
+    private int[] state;
+    private int[] zipCode;
+    private byte[] insurance;
+
+    public ColumnarAvailabilityStore() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            rows.clear();
+            dictionary.clear();
+            size = 0;
+            freeCount = 0;
+            allocate(INITIAL_CAPACITY);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(AvailabilityResponseDto availability) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = rows.get(availability.getId());
+            if (availability.getStatus() != AvailabilityStatus.AVAILABLE) {
+                if (existing != null) {
+                    release(availability.getId(), existing);
+                }
+                return;
+            }
+
+            int row = existing != null ? existing : acquire(availability.getId());
+            AddressDto address = availability.getLocation() != null ? availability.getLocation().getAddress() : null;
+            epochDay[row] = (int) availability.getDate().toEpochDay();
+            // block ranges only widen; a stale range costs a wasted block scan, never a missed row
+            blockMinDay[row >>> BLOCK_SHIFT] = Math.min(blockMinDay[row >>> BLOCK_SHIFT], epochDay[row]);
+            blockMaxDay[row >>> BLOCK_SHIFT] = Math.max(blockMaxDay[row >>> BLOCK_SHIFT], epochDay[row]);
+            startMinute[row] = (short) (availability.getStartTime().toSecondOfDay() / 60);
+            endMinute[row] = (short) (availability.getEndTime().toSecondOfDay() / 60);
+            appointmentType[row] = (byte) availability.getAppointmentType().ordinal();
+            specialization[row] = encode(availability.getSpecialization());
+            city[row] = encode(address != null ? address.getCity() : null);
+            state[row] = encode(address != null ? address.getState() : null);
+            zipCode[row] = encode(address != null ? address.getZipCode() : null);
+            Boolean insuranceAccepted = availability.getPricing() != null
+                    ? availability.getPricing().getInsuranceAccepted() : null;
+            insurance[row] = insuranceAccepted == null ? INSURANCE_UNKNOWN
+                    : insuranceAccepted ? INSURANCE_YES : INSURANCE_NO;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(UUID availabilityId) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rows.get(availabilityId);
+            if (row != null) {
+                release(availabilityId, row);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of AVAILABLE rows matching the search filters, ordered by date and start time.
+     */
+    public List<UUID> search(AvailabilitySearchRequestDto search) {
+        lock.readLock().lock();
+        try {
+            int from = (int) search.getStartDate().toEpochDay();
+            int to = (int) search.getEndDate().toEpochDay();
+            int type = search.getAppointmentType() != null ? search.getAppointmentType().ordinal() : ABSENT;
+            int wantedSpecialization = lookup(search.getSpecialization());
+            int wantedCity = lookup(search.getCity());
+            int wantedState = lookup(search.getState());
+            int wantedZipCode = lookup(search.getZipCode());
+            byte wantedInsurance = search.getInsuranceAccepted() == null ? INSURANCE_UNKNOWN
+                    : search.getInsuranceAccepted() ? INSURANCE_YES : INSURANCE_NO;
+            // a filter value that was never seen cannot match any row
+            if (wantedSpecialization == Integer.MIN_VALUE || wantedCity == Integer.MIN_VALUE
+                    || wantedState == Integer.MIN_VALUE || wantedZipCode == Integer.MIN_VALUE) {
+                return new ArrayList<>();
+            }
+
+            // columns in locals so the loop runs without field reloads
+            int[] days = epochDay;
+            long[] liveRows = live;
+            byte[] types = appointmentType;
+            int[] specializations = specialization;
+            int[] cities = city;
+            int[] states = state;
+            int[] zipCodes = zipCode;
+            byte[] insurances = insurance;
+            int span = to - from;
+
+            // sort key: day and start minute in the high bits, row number in the low 32
+            long[] matches = new long[16];
+            int count = 0;
+            int blockCount = (size + (1 << BLOCK_SHIFT) - 1) >>> BLOCK_SHIFT;
+            for (int block = 0; block < blockCount; block++) {
+                if (blockMaxDay[block] < from || blockMinDay[block] > to) {
+                    continue;
+                }
+                for (int row = block << BLOCK_SHIFT, end = Math.min(size, row + (1 << BLOCK_SHIFT)); row < end; row++) {
+                    // one unsigned compare tests both ends of the date range
+                    if (Integer.compareUnsigned(days[row] - from, span) > 0
+                            || (liveRows[row >>> 6] & 1L << row) == 0
+                            || (type != ABSENT && types[row] != type)
+                            || (wantedSpecialization != ABSENT && specializations[row] != wantedSpecialization)
+                            || (wantedCity != ABSENT && cities[row] != wantedCity)
+                            || (wantedState != ABSENT && states[row] != wantedState)
+                            || (wantedZipCode != ABSENT && zipCodes[row] != wantedZipCode)
+                            || (wantedInsurance != INSURANCE_UNKNOWN && insurances[row] != wantedInsurance)) {
+                        continue;
+                    }
+                    if (count == matches.length) {
+                        matches = Arrays.copyOf(matches, count * 2);
+                    }
+                    matches[count++] = ((long) (days[row] - from) * 1440 + startMinute[row]) << 32 | row;
+                }
+            }
+
+            Arrays.sort(matches, 0, count);
+            List<UUID> ids = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int row = (int) matches[i];
+                ids.add(new UUID(idHigh[row], idLow[row]));
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return rows.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int acquire(UUID availabilityId) {
+        int row;
+        if (freeCount > 0) {
+            row = freeRows[--freeCount];
+        } else {
+            if (size == epochDay.length) {
+                grow(size * 2);
+            }
+            row = size++;
+        }
+        live[row >>> 6] |= 1L << row;
+        idHigh[row] = availabilityId.getMostSignificantBits();
+        idLow[row] = availabilityId.getLeastSignificantBits();
+        rows.put(availabilityId, row);
+        return row;
+    }
+
+    private void release(UUID availabilityId, int row) {
+        rows.remove(availabilityId);
+        live[row >>> 6] &= ~(1L << row);
+        if (freeCount == freeRows.length) {
+            freeRows = Arrays.copyOf(freeRows, freeCount * 2);
+        }
+        freeRows[freeCount++] = row;
+    }
+
+    // Dictionary codes only grow; a value that no longer occurs keeps its code until the next rebuild
+    private int encode(String value) {
+        if (value == null || value.isBlank()) {
+            return ABSENT;
+        }
+        return dictionary.computeIfAbsent(value.trim().toLowerCase(Locale.ROOT), key -> dictionary.size());
+    }
+
+    private int lookup(String value) {
+        if (value == null || value.isEmpty()) {
+            return ABSENT;
+        }
+        return dictionary.getOrDefault(value.trim().toLowerCase(Locale.ROOT), Integer.MIN_VALUE);
+    }
+
+    private void allocate(int capacity) {
+        live = new long[(capacity + 63) >>> 6];
+        idHigh = new long[capacity];
+        idLow = new long[capacity];
+        epochDay = new int[capacity];
+        blockMinDay = new int[capacity >>> BLOCK_SHIFT];
+        blockMaxDay = new int[capacity >>> BLOCK_SHIFT];
+        Arrays.fill(blockMinDay, Integer.MAX_VALUE);
+        Arrays.fill(blockMaxDay, Integer.MIN_VALUE);
+        startMinute = new short[capacity];
+        endMinute = new short[capacity];
+        appointmentType = new byte[capacity];
+        specialization = new int[capacity];
+        city = new int[capacity];
+        state = new int[capacity];
+        zipCode = new int[capacity];
+        insurance = new byte[capacity];
+    }
+
+    private void grow(int capacity) {
+        live = Arrays.copyOf(live, (capacity + 63) >>> 6);
+        idHigh = Arrays.copyOf(idHigh, capacity);
+        idLow = Arrays.copyOf(idLow, capacity);
+        epochDay = Arrays.copyOf(epochDay, capacity);
+        int blocks = blockMinDay.length;
+        blockMinDay = Arrays.copyOf(blockMinDay, capacity >>> BLOCK_SHIFT);
+        blockMaxDay = Arrays.copyOf(blockMaxDay, capacity >>> BLOCK_SHIFT);
+        Arrays.fill(blockMinDay, blocks, blockMinDay.length, Integer.MAX_VALUE);
+        Arrays.fill(blockMaxDay, blocks, blockMaxDay.length, Integer.MIN_VALUE);
+        startMinute = Arrays.copyOf(startMinute, capacity);
+        endMinute = Arrays.copyOf(endMinute, capacity);
+        appointmentType = Arrays.copyOf(appointmentType, capacity);
+        specialization = Arrays.copyOf(specialization, capacity);
+        city = Arrays.copyOf(city, capacity);
+        state = Arrays.copyOf(state, capacity);
+        zipCode = Arrays.copyOf(zipCode, capacity);
+        insurance = Arrays.copyOf(insurance, capacity);
+    }
+}
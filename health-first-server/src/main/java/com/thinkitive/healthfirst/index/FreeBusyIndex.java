@@ -0,0 +1,233 @@
+package com.thinkitive.healthfirst.index;
+
+import com.thinkitive.healthfirst.dto.response.AvailabilityResponseDto;
+import com.thinkitive.healthfirst.dto.response.FreeGapDto;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Free/busy bitmaps per provider and local day at 5-minute granularity: bit n of the
+ * five longs covers minutes [5n, 5n + 5). A unit is free when it lies inside a slot of
+ * an AVAILABLE window that still has capacity; breaks are busy. Gaps of k units are
+ * found by AND-ing the bitmap with shifted copies of itself.
+ */
+@Component
+public class FreeBusyIndex implements AvailabilityIndex {
+
+    public static final int UNIT_MINUTES = 5;
+    private static final int UNITS_PER_DAY = 24 * 60 / UNIT_MINUTES;
+    private static final int WORDS = (UNITS_PER_DAY + 63) / 64;
+
+    private final Map<UUID, Contribution> contributions = new HashMap<>();
+    private final Map<UUID, NavigableMap<Long, Day>> providers = new HashMap<>();
+    private final Map<String, Set<UUID>> providersBySpecialization = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            contributions.clear();
+            providers.clear();
+            providersBySpecialization.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(AvailabilityResponseDto availability) {
+        lock.writeLock().lock();
+        try {
+            withdraw(contributions.remove(availability.getId()));
+
+            long[] free = freeUnits(availability);
+            if (free != null && availability.getProviderId() != null) {
+                Contribution contribution = new Contribution(availability.getId(), availability.getProviderId(),
+                        availability.getDate().toEpochDay(), free);
+                contributions.put(contribution.availabilityId(), contribution);
+                providers.computeIfAbsent(contribution.providerId(), key -> new TreeMap<>())
+                        .computeIfAbsent(contribution.epochDay(), key -> new Day())
+                        .add(contribution);
+                String specialization = normalize(availability.getSpecialization());
+                if (specialization != null) {
+                    providersBySpecialization.computeIfAbsent(specialization, key -> new HashSet<>())
+                            .add(contribution.providerId());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(UUID availabilityId) {
+        lock.writeLock().lock();
+        try {
+            withdraw(contributions.remove(availabilityId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * The earliest free run of at least {@code minutes} on each provider-day in the range,
+     * ordered by date and start time. Providers come from {@code providerId} when given,
+     * otherwise from {@code specialization}.
+     */
+    public List<FreeGapDto> findGaps(UUID providerId, String specialization, int minutes,
+                                     LocalDate startDate, LocalDate endDate, int limit) {
+        int units = (minutes + UNIT_MINUTES - 1) / UNIT_MINUTES;
+        List<FreeGapDto> gaps = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            Collection<UUID> candidates = providerId != null ? List.of(providerId)
+                    : providersBySpecialization.getOrDefault(normalize(specialization), Set.of());
+            for (UUID candidate : candidates) {
+                NavigableMap<Long, Day> days = providers.get(candidate);
+                if (days == null) {
+                    continue;
+                }
+                for (Map.Entry<Long, Day> entry : days.subMap(startDate.toEpochDay(), true,
+                        endDate.toEpochDay(), true).entrySet()) {
+                    int start = firstRun(entry.getValue().free, units);
+                    if (start >= 0) {
+                        gaps.add(FreeGapDto.builder()
+                                .providerId(candidate)
+                                .date(LocalDate.ofEpochDay(entry.getKey()))
+                                .startTime(LocalTime.MIN.plusMinutes((long) start * UNIT_MINUTES))
+                                .freeMinutes(runLength(entry.getValue().free, start) * UNIT_MINUTES)
+                                .build());
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        gaps.sort((a, b) -> a.getDate().equals(b.getDate())
+                ? a.getStartTime().compareTo(b.getStartTime()) : a.getDate().compareTo(b.getDate()));
+        return gaps.size() > limit ? new ArrayList<>(gaps.subList(0, limit)) : gaps;
+    }
+
+    private void withdraw(Contribution contribution) {
+        if (contribution == null) {
+            return;
+        }
+        NavigableMap<Long, Day> days = providers.get(contribution.providerId());
+        Day day = days.get(contribution.epochDay());
+        day.remove(contribution);
+        if (day.contributions.isEmpty()) {
+            days.remove(contribution.epochDay());
+            if (days.isEmpty()) {
+                providers.remove(contribution.providerId());
+                providersBySpecialization.values().forEach(ids -> ids.remove(contribution.providerId()));
+            }
+        }
+    }
+
+    // Units of the slots that can still be booked, see SlotCapacity.openSlots; null when nothing is free
+    private static long[] freeUnits(AvailabilityResponseDto availability) {
+        List<int[]> slots = SlotCapacity.openSlots(availability);
+        if (slots.isEmpty()) {
+            return null;
+        }
+
+        long[] free = new long[WORDS];
+        for (int[] slot : slots) {
+            // only units wholly inside the slot count as free
+            int firstUnit = (slot[0] + UNIT_MINUTES - 1) / UNIT_MINUTES;
+            int endUnit = slot[1] / UNIT_MINUTES;
+            for (int unit = firstUnit; unit < endUnit; unit++) {
+                free[unit >>> 6] |= 1L << (unit & 63);
+            }
+        }
+        return free;
+    }
+
+    // Lowest unit that starts a run of at least `units` free units, or -1
+    private static int firstRun(long[] free, int units) {
+        long[] runs = free.clone();
+        int covered = 1;
+        // after each step bit i is set iff units i .. i + covered - 1 are all free
+        while (covered < units) {
+            int shift = Math.min(covered, units - covered);
+            andShifted(runs, shift);
+            covered += shift;
+        }
+        for (int word = 0; word < WORDS; word++) {
+            if (runs[word] != 0) {
+                return word * 64 + Long.numberOfTrailingZeros(runs[word]);
+            }
+        }
+        return -1;
+    }
+
+    private static int runLength(long[] free, int start) {
+        int unit = start;
+        while (unit < UNITS_PER_DAY && (free[unit >>> 6] & 1L << (unit & 63)) != 0) {
+            unit++;
+        }
+        return unit - start;
+    }
+
+    // bits &= bits >>> shift, treating the words as one little-endian bit string
+    private static void andShifted(long[] bits, int shift) {
+        int wordShift = shift >>> 6;
+        int bitShift = shift & 63;
+        for (int word = 0; word < bits.length; word++) {
+            int source = word + wordShift;
+            long low = source < bits.length ? bits[source] : 0L;
+            long high = source + 1 < bits.length ? bits[source + 1] : 0L;
+            long shifted = bitShift == 0 ? low : low >>> bitShift | high << (64 - bitShift);
+            bits[word] &= shifted;
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null || value.isBlank() ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Contribution(UUID availabilityId, UUID providerId, long epochDay, long[] free) {
+    }
+
+    private static final class Day {
+        private final List<Contribution> contributions = new ArrayList<>(2);
+        private final long[] free = new long[WORDS];
+
+        void add(Contribution contribution) {
+            contributions.add(contribution);
+            for (int word = 0; word < WORDS; word++) {
+                free[word] |= contribution.free()[word];
+            }
+        }
+
+        // overlapping windows may share units, so the day is recombined from what remains
+        void remove(Contribution contribution) {
+            contributions.remove(contribution);
+            Arrays.fill(free, 0L);
+            for (Contribution remaining : contributions) {
+                for (int word = 0; word < WORDS; word++) {
+                    free[word] |= remaining.free()[word];
+                }
+            }
+        }
+    }
+}
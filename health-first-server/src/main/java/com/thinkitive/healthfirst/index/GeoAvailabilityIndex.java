@@ -0,0 +1,174 @@
+package com.thinkitive.healthfirst.index;
+
+import com.thinkitive.healthfirst.dto.response.AvailabilityResponseDto;
+import com.thinkitive.healthfirst.dto.response.NearbyAvailabilityDto;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * Open availabilities bucketed into a fixed latitude/longitude grid by the coordinates of
+ * their location. Nearest-k search walks rings of cells outward from the query point and
+ * stops once no unvisited cell can hold anything closer than the k-th hit or the radius.
+ */
+@Component
+public class GeoAvailabilityIndex implements AvailabilityIndex {
+
+    private static final double CELL_DEGREES = 0.05;
+    private static final double KM_PER_DEGREE = 111.32;
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final int LONGITUDE_CELLS = (int) Math.round(360 / CELL_DEGREES);
+
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    private final Map<Long, Map<UUID, Entry>> cells = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            cells.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(AvailabilityResponseDto availability) {
+        lock.writeLock().lock();
+        try {
+            unlink(entries.remove(availability.getId()));
+
+            if (SlotCapacity.openCapacity(availability) > 0 && availability.getLocation() != null
+                    && availability.getLocation().getAddress() != null
+                    && availability.getLocation().getAddress().getLatitude() != null
+                    && availability.getLocation().getAddress().getLongitude() != null) {
+                double latitude = availability.getLocation().getAddress().getLatitude();
+                double longitude = availability.getLocation().getAddress().getLongitude();
+                Entry entry = new Entry(cellKey(latRow(latitude), lngColumn(longitude)), latitude, longitude,
+                        availability);
+                entries.put(availability.getId(), entry);
+                cells.computeIfAbsent(entry.cell(), key -> new HashMap<>()).put(availability.getId(), entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(UUID availabilityId) {
+        lock.writeLock().lock();
+        try {
+            unlink(entries.remove(availabilityId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Up to {@code limit} availabilities within {@code radiusKm} that pass {@code filter},
+     * nearest first.
+     */
+    public List<NearbyAvailabilityDto> nearest(double latitude, double longitude, double radiusKm, int limit,
+                                               Predicate<AvailabilityResponseDto> filter) {
+        // max-heap on distance holding the best `limit` hits seen so far
+        PriorityQueue<NearbyAvailabilityDto> best = new PriorityQueue<>(
+                Comparator.comparingDouble(NearbyAvailabilityDto::getDistanceKm).reversed());
+        int row = latRow(latitude);
+        int column = lngColumn(longitude);
+        // the narrowest cell in the search area bounds how far away a ring is at least; polar regions are not served
+        double maxLatitude = Math.min(85, Math.abs(latitude) + radiusKm / KM_PER_DEGREE + CELL_DEGREES);
+        double cellKm = CELL_DEGREES * KM_PER_DEGREE * Math.cos(Math.toRadians(maxLatitude));
+        int maxRing = (int) Math.min(LONGITUDE_CELLS / 2, Math.ceil(radiusKm / cellKm) + 1);
+
+        lock.readLock().lock();
+        try {
+            for (int ring = 0; ring <= maxRing; ring++) {
+                double ringDistance = (ring - 1) * cellKm;
+                if (ringDistance > radiusKm || (best.size() == limit && ringDistance > best.peek().getDistanceKm())) {
+                    break;
+                }
+                for (int dy = -ring; dy <= ring; dy++) {
+                    // only the border of the ring; the inside was visited already
+                    int step = Math.abs(dy) == ring ? 1 : 2 * ring;
+                    for (int dx = -ring; dx <= ring; dx += step) {
+                        Map<UUID, Entry> cell = cells.get(cellKey(row + dy, Math.floorMod(column + dx, LONGITUDE_CELLS)));
+                        if (cell != null) {
+                            collect(cell, latitude, longitude, radiusKm, limit, filter, best);
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<NearbyAvailabilityDto> result = new ArrayList<>(best);
+        result.sort(Comparator.comparingDouble(NearbyAvailabilityDto::getDistanceKm));
+        return result;
+    }
+
+    private static void collect(Map<UUID, Entry> cell, double latitude, double longitude, double radiusKm, int limit,
+                                Predicate<AvailabilityResponseDto> filter, PriorityQueue<NearbyAvailabilityDto> best) {
+        for (Entry entry : cell.values()) {
+            double distance = distanceKm(latitude, longitude, entry.latitude(), entry.longitude());
+            if (distance > radiusKm || (best.size() == limit && distance >= best.peek().getDistanceKm())) {
+                continue;
+            }
+            if (!filter.test(entry.availability())) {
+                continue;
+            }
+            best.add(NearbyAvailabilityDto.builder()
+                    .distanceKm(distance)
+                    .availability(entry.availability())
+                    .build());
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+    }
+
+    private void unlink(Entry entry) {
+        if (entry == null) {
+            return;
+        }
+        Map<UUID, Entry> cell = cells.get(entry.cell());
+        cell.remove(entry.availability().getId());
+        if (cell.isEmpty()) {
+            cells.remove(entry.cell());
+        }
+    }
+
+    private static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private static int latRow(double latitude) {
+        return (int) Math.floor((latitude + 90) / CELL_DEGREES);
+    }
+
+    private static int lngColumn(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / CELL_DEGREES), LONGITUDE_CELLS);
+    }
+
+    private static long cellKey(int row, int column) {
+        return (long) row << 32 | (column & 0xffffffffL);
+    }
+
+    private record Entry(long cell, double latitude, double longitude, AvailabilityResponseDto availability) {
+    }
+}
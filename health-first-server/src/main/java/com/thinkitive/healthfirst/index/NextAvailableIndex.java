@@ -0,0 +1,169 @@
+package com.thinkitive.healthfirst.index;
+
+import com.thinkitive.healthfirst.dto.response.AvailabilityResponseDto;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Open availabilities ordered by start instant, kept per provider, per specialization,
+ * per city and overall, so "next N available" is a walk from the head of one ordered set.
+ * Every write is a handful of O(log n) tree operations.
+ */
+@Component
+public class NextAvailableIndex implements AvailabilityIndex {
+
+    private static final Comparator<Slot> ORDER = Comparator.comparing(Slot::start).thenComparing(Slot::availabilityId);
+    private static final UUID MIN_ID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+
+    private final Map<UUID, Slot> slots = new HashMap<>();
+    private final NavigableSet<Slot> all = new TreeSet<>(ORDER);
+    private final Map<UUID, NavigableSet<Slot>> byProvider = new HashMap<>();
+    private final Map<String, NavigableSet<Slot>> bySpecialization = new HashMap<>();
+    private final Map<String, NavigableSet<Slot>> byCity = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            slots.clear();
+            all.clear();
+            byProvider.clear();
+            bySpecialization.clear();
+            byCity.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(AvailabilityResponseDto availability) {
+        lock.writeLock().lock();
+        try {
+            unlink(slots.remove(availability.getId()));
+            if (SlotCapacity.openCapacity(availability) > 0 && availability.getProviderId() != null) {
+                Slot slot = new Slot(AvailabilityTimes.startOf(availability), availability.getId(),
+                        availability.getProviderId(), normalize(availability.getSpecialization()),
+                        normalize(cityOf(availability)), availability);
+                slots.put(slot.availabilityId(), slot);
+                all.add(slot);
+                byProvider.computeIfAbsent(slot.providerId(), key -> new TreeSet<>(ORDER)).add(slot);
+                if (slot.specialization() != null) {
+                    bySpecialization.computeIfAbsent(slot.specialization(), key -> new TreeSet<>(ORDER)).add(slot);
+                }
+                if (slot.city() != null) {
+                    byCity.computeIfAbsent(slot.city(), key -> new TreeSet<>(ORDER)).add(slot);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(UUID availabilityId) {
+        lock.writeLock().lock();
+        try {
+            unlink(slots.remove(availabilityId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * The next {@code limit} open availabilities starting at or after {@code from}. Filters
+     * are optional; the most selective one picks the set that is walked, the rest are checked
+     * per entry.
+     */
+    public List<AvailabilityResponseDto> next(UUID providerId, String specialization, String city,
+                                              Instant from, int limit) {
+        String wantedSpecialization = normalize(specialization);
+        String wantedCity = normalize(city);
+        List<AvailabilityResponseDto> result = new ArrayList<>(limit);
+
+        lock.readLock().lock();
+        try {
+            NavigableSet<Slot> candidates = providerId != null ? byProvider.get(providerId)
+                    : wantedSpecialization != null ? bySpecialization.get(wantedSpecialization)
+                    : wantedCity != null ? byCity.get(wantedCity)
+                    : all;
+            if (candidates == null) {
+                return result;
+            }
+            for (Slot slot : candidates.tailSet(new Slot(from, MIN_ID, null, null, null, null), true)) {
+                if ((wantedSpecialization == null || wantedSpecialization.equals(slot.specialization()))
+                        && (wantedCity == null || wantedCity.equals(slot.city()))) {
+                    result.add(slot.availability());
+                    if (result.size() == limit) {
+                        break;
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    // Started availabilities can never be returned again, so drop them instead of skipping them forever
+    @Scheduled(fixedDelayString = "${availability.index.prune-interval-ms:3600000}")
+    public void pruneStarted() {
+        Slot boundary = new Slot(Instant.now(), MIN_ID, null, null, null, null);
+        lock.writeLock().lock();
+        try {
+            List<Slot> started = new ArrayList<>(all.headSet(boundary, false));
+            for (Slot slot : started) {
+                slots.remove(slot.availabilityId());
+                unlink(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void unlink(Slot slot) {
+        if (slot == null) {
+            return;
+        }
+        all.remove(slot);
+        removeFrom(byProvider, slot.providerId(), slot);
+        removeFrom(bySpecialization, slot.specialization(), slot);
+        removeFrom(byCity, slot.city(), slot);
+    }
+
+    private static <K> void removeFrom(Map<K, NavigableSet<Slot>> sets, K key, Slot slot) {
+        if (key == null) {
+            return;
+        }
+        NavigableSet<Slot> set = sets.get(key);
+        if (set != null && set.remove(slot) && set.isEmpty()) {
+            sets.remove(key);
+        }
+    }
+
+    private static String cityOf(AvailabilityResponseDto availability) {
+        return availability.getLocation() != null && availability.getLocation().getAddress() != null
+                ? availability.getLocation().getAddress().getCity() : null;
+    }
+
+    private static String normalize(String value) {
+        return value == null || value.isBlank() ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Slot(Instant start, UUID availabilityId, UUID providerId, String specialization, String city,
+                        AvailabilityResponseDto availability) {
+    }
+}
@@ -0,0 +1,297 @@
+package com.thinkitive.healthfirst.index;
+
+import com.thinkitive.healthfirst.dto.response.ProviderResponseDto;
+import com.thinkitive.healthfirst.dto.response.ProviderSuggestionDto;
+import com.thinkitive.healthfirst.entity.ProviderEntity;
+import com.thinkitive.healthfirst.event.ProviderChangeEvent;
+import com.thinkitive.healthfirst.repository.ProviderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Type-ahead index over provider first names, last names and specializations. Terms are
+ * kept in a sorted map for prefix lookups and in a trigram map that narrows the
+ * vocabulary down to a few candidates before edit distances are computed, so "cardio"
+ * and "Cardiolgy" both find cardiologists.
+ */
+@Component
+@Slf4j
+public class ProviderSearchIndex implements SmartLifecycle {
+
+    private static final double EXACT = 3.0;
+    private static final double PREFIX = 2.0;
+    private static final double FUZZY = 1.0;
+    private static final double SPECIALIZATION_BOOST = 0.25;
+
+    private final ProviderRepository providerRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final Map<UUID, Document> documents = new HashMap<>();
+    private final TreeMap<String, Set<UUID>> postings = new TreeMap<>();
+    private final Map<String, Set<String>> trigrams = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean running;
+
+    public ProviderSearchIndex(ProviderRepository providerRepository, PlatformTransactionManager transactionManager) {
+        this.providerRepository = providerRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public void rebuild() {
+        List<ProviderResponseDto> providers = readOnlyTransaction.execute(status ->
+                providerRepository.findAll().stream().map(ProviderEntity::toDto).toList());
+
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            trigrams.clear();
+            providers.forEach(this::index);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Indexed {} providers for search", providers.size());
+    }
+
+    @TransactionalEventListener
+    public void onProviderChange(ProviderChangeEvent event) {
+        lock.writeLock().lock();
+        try {
+            index(event.getProvider());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Providers matching every word of {@code query}, best first. Each word scores by its
+     * best term match in the provider: exact, then prefix, then within the edit budget.
+     */
+    public List<ProviderSuggestionDto> search(String query, int limit) {
+        List<String> words = tokenize(query);
+        if (words.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<UUID, Double> scores = null;
+            for (String word : words) {
+                Map<UUID, Double> wordScores = scoreWord(word);
+                if (scores == null) {
+                    scores = wordScores;
+                } else {
+                    Map<UUID, Double> previous = scores;
+                    scores = new HashMap<>();
+                    for (Map.Entry<UUID, Double> entry : wordScores.entrySet()) {
+                        Double score = previous.get(entry.getKey());
+                        if (score != null) {
+                            scores.put(entry.getKey(), score + entry.getValue());
+                        }
+                    }
+                }
+                if (scores.isEmpty()) {
+                    return new ArrayList<>();
+                }
+            }
+
+            return scores.entrySet().stream()
+                    .sorted(Map.Entry.<UUID, Double>comparingByValue().reversed()
+                            .thenComparing(entry -> documents.get(entry.getKey()).sortName()))
+                    .limit(limit)
+                    .map(entry -> documents.get(entry.getKey()).toSuggestion(entry.getValue()))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<UUID, Double> scoreWord(String word) {
+        Map<String, Double> termScores = new HashMap<>();
+
+        // prefix matches, including the exact term itself
+        for (String term : postings.subMap(word, true, word + Character.MAX_VALUE, false).keySet()) {
+            termScores.put(term, term.equals(word) ? EXACT : PREFIX - 0.01 * (term.length() - word.length()));
+        }
+
+        // typos: candidates share a trigram with the word, then must be within the edit budget
+        int budget = word.length() <= 4 ? 1 : 2;
+        if (word.length() >= 3) {
+            Set<String> candidates = new HashSet<>();
+            for (String gram : gramsOf(word)) {
+                candidates.addAll(trigrams.getOrDefault(gram, Set.of()));
+            }
+            for (String term : candidates) {
+                if (termScores.containsKey(term)) {
+                    continue;
+                }
+                // compare against the whole term and against a prefix of similar length (typing in progress)
+                int distance = Math.min(editDistance(word, term, budget),
+                        editDistance(word, term.substring(0, Math.min(term.length(), word.length())), budget));
+                if (distance <= budget) {
+                    termScores.put(term, FUZZY - 0.25 * distance);
+                }
+            }
+        }
+
+        Map<UUID, Double> scores = new HashMap<>();
+        for (Map.Entry<String, Double> entry : termScores.entrySet()) {
+            for (UUID providerId : postings.get(entry.getKey())) {
+                boolean inSpecialization = documents.get(providerId).specializationTerms().contains(entry.getKey());
+                double score = entry.getValue() + (inSpecialization ? SPECIALIZATION_BOOST : 0);
+                scores.merge(providerId, score, Math::max);
+            }
+        }
+        return scores;
+    }
+
+    private void index(ProviderResponseDto provider) {
+        Document previous = documents.remove(provider.getId());
+        if (previous != null) {
+            for (String term : previous.terms()) {
+                Set<UUID> ids = postings.get(term);
+                ids.remove(provider.getId());
+                if (ids.isEmpty()) {
+                    postings.remove(term);
+                    gramsOf(term).forEach(gram -> {
+                        Set<String> terms = trigrams.get(gram);
+                        terms.remove(term);
+                        if (terms.isEmpty()) {
+                            trigrams.remove(gram);
+                        }
+                    });
+                }
+            }
+        }
+
+        Set<String> specializationTerms = new HashSet<>(tokenize(provider.getSpecialization()));
+        Set<String> terms = new LinkedHashSet<>(tokenize(provider.getFirstName()));
+        terms.addAll(tokenize(provider.getLastName()));
+        terms.addAll(specializationTerms);
+
+        Document document = new Document(provider.getId(), provider.getFirstName(), provider.getLastName(),
+                provider.getSpecialization(), terms, specializationTerms);
+        documents.put(provider.getId(), document);
+        for (String term : terms) {
+            postings.computeIfAbsent(term, key -> {
+                gramsOf(key).forEach(gram -> trigrams.computeIfAbsent(gram, g -> new HashSet<>()).add(key));
+                return new HashSet<>();
+            }).add(provider.getId());
+        }
+    }
+
+    private static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+
+    // padded so that the first and last letters carry weight: "^ca", "car", ..., "gy$"
+    private static List<String> gramsOf(String term) {
+        String padded = "^" + term + "$";
+        List<String> grams = new ArrayList<>(padded.length() - 2);
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    /**
+     * Optimal string alignment distance (adjacent transpositions count once), giving up
+     * with {@code budget + 1} as soon as every cell in a row exceeds the budget.
+     */
+    private static int editDistance(String a, String b, int budget) {
+        if (Math.abs(a.length() - b.length()) > budget) {
+            return budget + 1;
+        }
+        int[] previousPrevious = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    current[j] = Math.min(current[j], previousPrevious[j - 2] + 1);
+                }
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > budget) {
+                return budget + 1;
+            }
+            int[] recycled = previousPrevious;
+            previousPrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[b.length()];
+    }
+
+    @Override
+    public void start() {
+        rebuild();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // before the embedded web server starts serving
+        return 0;
+    }
+
+    private record Document(UUID id, String firstName, String lastName, String specialization,
+                            Set<String> terms, Set<String> specializationTerms) {
+
+        String sortName() {
+            return (lastName + " " + firstName).toLowerCase(Locale.ROOT);
+        }
+
+        ProviderSuggestionDto toSuggestion(double score) {
+            return ProviderSuggestionDto.builder()
+                    .providerId(id)
+                    .firstName(firstName)
+                    .lastName(lastName)
+                    .specialization(specialization)
+                    .score(Math.round(score * 100) / 100.0)
+                    .build();
+        }
+    }
+}
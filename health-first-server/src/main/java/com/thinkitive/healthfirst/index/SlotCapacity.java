@@ -0,0 +1,63 @@
+package com.thinkitive.healthfirst.index;
+
+import com.thinkitive.healthfirst.dto.response.AvailabilityResponseDto;
+import com.thinkitive.healthfirst.entity.AvailabilityEntity;
+import com.thinkitive.healthfirst.entity.AvailabilityStatus;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class SlotCapacity {
+
+    private SlotCapacity() {
+    }
+
+    public static int totalCapacity(AvailabilityResponseDto availability) {
+        int perSlot = availability.getMaxAppointmentsPerSlot() != null ? availability.getMaxAppointmentsPerSlot() : 1;
+        return AvailabilityEntity.slotCount(availability.getStartTime(), availability.getEndTime(),
+                availability.getSlotDuration(), availability.getBreakDuration()) * perSlot;
+    }
+
+    // Appointments that can still be booked; zero unless the availability is open
+    public static int openCapacity(AvailabilityResponseDto availability) {
+        if (availability.getStatus() != AvailabilityStatus.AVAILABLE) {
+            return 0;
+        }
+        int booked = availability.getCurrentAppointments() != null ? availability.getCurrentAppointments() : 0;
+        return Math.max(0, totalCapacity(availability) - booked);
+    }
+
+    public static List<int[]> openSlots(AvailabilityResponseDto availability) {
+        if (openCapacity(availability) == 0) {
+            return List.of();
+        }
+        return openSlots(availability.getStartTime(), availability.getEndTime(), availability.getSlotDuration(),
+                availability.getBreakDuration(), availability.getMaxAppointmentsPerSlot(),
+                availability.getCurrentAppointments());
+    }
+
+    /**
+     * Minute-of-day bounds {start, end} of each slot that can still be booked; breaks fall between
+     * them. Bookings carry no slot time, so slots are assumed to fill in order: the first
+     * {@code booked / perSlot} slots are full.
+     */
+    public static List<int[]> openSlots(LocalTime startTime, LocalTime endTime, int slotDuration,
+                                        Integer breakDuration, Integer maxAppointmentsPerSlot, Integer currentAppointments) {
+        int perSlot = maxAppointmentsPerSlot != null ? maxAppointmentsPerSlot : 1;
+        int booked = currentAppointments != null ? currentAppointments : 0;
+        int fullSlots = booked / perSlot;
+        int breakMinutes = breakDuration != null ? breakDuration : 0;
+        int end = endTime.toSecondOfDay() / 60;
+
+        List<int[]> slots = new ArrayList<>();
+        int slot = 0;
+        for (int start = startTime.toSecondOfDay() / 60; start + slotDuration <= end;
+             start += slotDuration + breakMinutes, slot++) {
+            if (slot >= fullSlots) {
+                slots.add(new int[] {start, start + slotDuration});
+            }
+        }
+        return slots;
+    }
+}
@@ -0,0 +1,53 @@
+package com.thinkitive.healthfirst.migration;
+
+import com.thinkitive.healthfirst.entity.AvailabilityEntity;
+import com.thinkitive.healthfirst.repository.AvailabilityRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Gives rows written before the instant columns existed their UTC start and end on the next
+ * start. Each batch commits in its own transaction, so the persistence context never holds
+ * more than one batch and a run that stops halfway keeps what it finished.
+ */
+@Component
+@Slf4j
+public class AvailabilityInstantBackfill {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final AvailabilityRepository availabilityRepository;
+    private final TransactionTemplate transaction;
+
+    public AvailabilityInstantBackfill(AvailabilityRepository availabilityRepository,
+                                       PlatformTransactionManager transactionManager) {
+        this.availabilityRepository = availabilityRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int rows = 0;
+        int batchSize;
+        do {
+            batchSize = transaction.execute(status -> {
+                List<AvailabilityEntity> batch = availabilityRepository.findByStartInstantIsNull(
+                        PageRequest.of(0, BATCH_SIZE));
+                batch.forEach(AvailabilityEntity::computeInstants);
+                availabilityRepository.saveAll(batch);
+                return batch.size();
+            });
+            rows += batchSize;
+        } while (batchSize == BATCH_SIZE);
+        if (rows > 0) {
+            log.info("Computed UTC start and end instants for {} availabilities", rows);
+        }
+    }
+}
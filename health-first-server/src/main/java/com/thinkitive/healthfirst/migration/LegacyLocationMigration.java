@@ -0,0 +1,158 @@
+package com.thinkitive.healthfirst.migration;
+
+import com.thinkitive.healthfirst.dto.request.AddressDto;
+import com.thinkitive.healthfirst.dto.request.LocationDto;
+import com.thinkitive.healthfirst.entity.Location;
+import com.thinkitive.healthfirst.repository.LocationRepository;
+import com.thinkitive.healthfirst.service.LocationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Moves the location that used to be embedded in each availability row into the shared
+ * locations table, then drops the old columns. Only the columns a database actually has are
+ * read (latitude and longitude exist only where they were added before this migration ran).
+ * Every step is keyed on rows that still have no location id, so a run that stops halfway
+ * is finished by the next start. Locations stored with an older fingerprint get the current
+ * one first, so they keep resolving.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LegacyLocationMigration implements SmartLifecycle {
+
+    private static final List<String> LEGACY_COLUMNS = List.of(
+            "type", "street", "city", "state", "zip_code", "country", "latitude", "longitude", "room_number");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LocationService locationService;
+    private final LocationRepository locationRepository;
+
+    private volatile boolean running;
+
+    public void migrate() {
+        // first, so that moved locations resolve to the rows already stored
+        refreshFingerprints();
+        moveEmbeddedLocations();
+    }
+
+    private void moveEmbeddedLocations() {
+        List<String> columns = legacyColumns();
+        if (columns.isEmpty()) {
+            return;
+        }
+        String match = columns.stream()
+                .map(column -> column + " IS NOT DISTINCT FROM ?")
+                .collect(Collectors.joining(" AND "));
+        
+        List<Object[]> legacyLocations = jdbcTemplate.query(
+                "SELECT DISTINCT " + String.join(", ", columns) + " FROM availability WHERE location_id IS NULL",
+                (resultSet, rowNumber) -> {
+                    Object[] values = new Object[columns.size()];
+                    for (int i = 0; i < values.length; i++) {
+                        values[i] = resultSet.getObject(i + 1);
+                    }
+                    return values;
+                });
+        
+        int locations = 0;
+        int rows = 0;
+        for (Object[] values : legacyLocations) {
+            LocationDto location = toLocation(columns, values);
+            if (location == null) {
+                continue;
+            }
+            Location stored = locationService.resolve(location);
+            Object[] parameters = new Object[values.length + 1];
+            parameters[0] = stored.getId();
+            System.arraycopy(values, 0, parameters, 1, values.length);
+            rows += jdbcTemplate.update(
+                    "UPDATE availability SET location_id = ? WHERE location_id IS NULL AND " + match, parameters);
+            locations++;
+        }
+        
+        for (String column : columns) {
+            jdbcTemplate.execute("ALTER TABLE availability DROP COLUMN " + column);
+        }
+        log.info("Moved {} embedded locations of {} availabilities into the locations table", locations, rows);
+    }
+
+    // The legacy columns this database still has, in LEGACY_COLUMNS order
+    private List<String> legacyColumns() {
+        Set<String> existing = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT LOWER(COLUMN_NAME) FROM INFORMATION_SCHEMA.COLUMNS WHERE LOWER(TABLE_NAME) = 'availability'",
+                String.class));
+        return LEGACY_COLUMNS.stream().filter(existing::contains).toList();
+    }
+
+    // Null when the row had no location at all
+    private static LocationDto toLocation(List<String> columns, Object[] values) {
+        Map<String, Object> row = new HashMap<>();
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                row.put(columns.get(i), values[i]);
+            }
+        }
+        if (row.isEmpty()) {
+            return null;
+        }
+        return LocationDto.builder()
+                .type((String) row.get("type"))
+                .address(AddressDto.builder()
+                        .street((String) row.get("street"))
+                        .city((String) row.get("city"))
+                        .state((String) row.get("state"))
+                        .zipCode((String) row.get("zip_code"))
+                        .country((String) row.get("country"))
+                        .latitude(row.get("latitude") != null ? ((Number) row.get("latitude")).doubleValue() : null)
+                        .longitude(row.get("longitude") != null ? ((Number) row.get("longitude")).doubleValue() : null)
+                        .build())
+                .roomNumber((String) row.get("room_number"))
+                .build();
+    }
+
+    // Rows are few (one per distinct place), so every start checks them all
+    private void refreshFingerprints() {
+        List<Location> stale = locationRepository.findAll().stream()
+                .filter(location -> !location.getFingerprint().equals(Location.fingerprintOf(Location.toDto(location))))
+                .toList();
+        if (stale.isEmpty()) {
+            return;
+        }
+        stale.forEach(location -> location.setFingerprint(Location.fingerprintOf(Location.toDto(location))));
+        locationRepository.saveAll(stale);
+        log.info("Updated the fingerprint of {} locations", stale.size());
+    }
+
+    @Override
+    public void start() {
+        migrate();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // before the in-memory indexes load availabilities with their locations
+        return -1;
+    }
+}
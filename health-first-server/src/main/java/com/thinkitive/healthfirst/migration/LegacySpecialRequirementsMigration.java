@@ -0,0 +1,114 @@
+package com.thinkitive.healthfirst.migration;
+
+import com.thinkitive.healthfirst.entity.StringListConverter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Folds the rows of the old availability_special_requirements table into the JSON column on
+ * each availability, then drops the table. Only availabilities whose column is still empty
+ * are written, so a run that stops halfway is finished by the next start.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LegacySpecialRequirementsMigration implements SmartLifecycle {
+
+    private static final String LEGACY_TABLE = "availability_special_requirements";
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StringListConverter converter = new StringListConverter();
+
+    private volatile boolean running;
+
+    public void migrate() {
+        if (!hasLegacyTable()) {
+            return;
+        }
+        
+        Fold fold = new Fold();
+        jdbcTemplate.query("SELECT availability_id, requirement FROM " + LEGACY_TABLE + " ORDER BY availability_id",
+                (RowCallbackHandler) resultSet -> fold.add(resultSet.getBytes(1), resultSet.getString(2)));
+        fold.finish();
+        
+        jdbcTemplate.execute("DROP TABLE " + LEGACY_TABLE);
+        log.info("Moved the special requirements of {} availabilities into the availability table", fold.availabilities);
+    }
+
+    private boolean hasLegacyTable() {
+        Integer tables = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE LOWER(TABLE_NAME) = ?", Integer.class, LEGACY_TABLE);
+        return tables != null && tables > 0;
+    }
+
+    // Rows arrive grouped by availability; a group is written once the next id starts
+    private final class Fold {
+        private final List<Object[]> batch = new ArrayList<>();
+        private final List<String> requirements = new ArrayList<>();
+        private byte[] availabilityId;
+        private int availabilities;
+
+        void add(byte[] id, String requirement) {
+            if (availabilityId != null && !Arrays.equals(id, availabilityId)) {
+                endGroup();
+            }
+            availabilityId = id;
+            requirements.add(requirement);
+        }
+
+        void finish() {
+            if (availabilityId != null) {
+                endGroup();
+            }
+            flush();
+        }
+
+        private void endGroup() {
+            batch.add(new Object[]{converter.convertToDatabaseColumn(requirements), availabilityId});
+            requirements.clear();
+            availabilities++;
+            if (batch.size() == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (!batch.isEmpty()) {
+                jdbcTemplate.batchUpdate("UPDATE availability SET special_requirements = ? " +
+                        "WHERE id = ? AND special_requirements IS NULL", batch);
+                batch.clear();
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        migrate();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // before the in-memory indexes load availabilities with their requirements
+        return -1;
+    }
+}
@@ -0,0 +1,29 @@
+package com.thinkitive.healthfirst.profiling;
+
+import org.hibernate.Interceptor;
+import org.hibernate.SessionEventListener;
+import org.hibernate.type.Type;
+
+/**
+ * Feeds the current {@link SearchProfile} from Hibernate: one shared instance is the
+ * session factory's interceptor and counts hydrated entities, and Hibernate creates one
+ * per session as an event listener to count and time JDBC statements.
+ */
+public class HibernateProfilingHooks implements Interceptor, SessionEventListener {
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        SearchProfile.rowsRead(1);
+        return false;
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        SearchProfile.statementStarted();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SearchProfile.statementEnded();
+    }
+}
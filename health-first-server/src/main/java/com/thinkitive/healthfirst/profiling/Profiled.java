@@ -0,0 +1,15 @@
+package com.thinkitive.healthfirst.profiling;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read handler that an administrator may run with {@code profile=true} to get a
+ * {@link SearchProfile} breakdown in the response metadata.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Profiled {
+}
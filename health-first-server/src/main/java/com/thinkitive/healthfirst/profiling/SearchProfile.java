@@ -0,0 +1,139 @@
+package com.thinkitive.healthfirst.profiling;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Timings and counters of one profiled request, bound to the request thread. Every hook
+ * first reads a shared count of open profiles, so when nobody is profiling a hook costs a
+ * volatile read and the thread-local is never touched.
+ */
+public final class SearchProfile {
+
+    public enum Stage {
+        INDEX, QUERY, HYDRATION, MAPPING, SERIALIZATION
+    }
+
+    private static final ThreadLocal<SearchProfile> CURRENT = new ThreadLocal<>();
+    private static final AtomicInteger OPEN = new AtomicInteger();
+
+    private final long startedAt = System.nanoTime();
+    private final long[] stageNanos = new long[Stage.values().length];
+    private int statements;
+    private long rowsRead;
+    private long rowsReturned;
+    private long jdbcNanos;
+    private long jdbcStartedAt;
+    private long jdbcMark;
+
+    private SearchProfile() {
+    }
+
+    static void open() {
+        CURRENT.set(new SearchProfile());
+        OPEN.incrementAndGet();
+    }
+
+    static void close() {
+        if (CURRENT.get() != null) {
+            CURRENT.remove();
+            OPEN.decrementAndGet();
+        }
+    }
+
+    static SearchProfile current() {
+        return OPEN.get() == 0 ? null : CURRENT.get();
+    }
+
+    public static boolean isActive() {
+        return current() != null;
+    }
+
+    /**
+     * Start of a timed section, to be passed to {@link #end} or {@link #endLoad}.
+     */
+    public static long start() {
+        SearchProfile profile = current();
+        if (profile == null) {
+            return 0;
+        }
+        profile.jdbcMark = profile.jdbcNanos;
+        return System.nanoTime();
+    }
+
+    public static void end(Stage stage, long started) {
+        SearchProfile profile = current();
+        if (profile != null) {
+            profile.stageNanos[stage.ordinal()] += System.nanoTime() - started;
+        }
+    }
+
+    /**
+     * Ends a repository call: the time spent inside JDBC statements counts as the query,
+     * the rest as hydrating entities from the result sets.
+     */
+    public static void endLoad(long started) {
+        SearchProfile profile = current();
+        if (profile != null) {
+            long elapsed = System.nanoTime() - started;
+            long query = Math.min(elapsed, profile.jdbcNanos - profile.jdbcMark);
+            profile.stageNanos[Stage.QUERY.ordinal()] += query;
+            profile.stageNanos[Stage.HYDRATION.ordinal()] += elapsed - query;
+        }
+    }
+
+    public static void rowsRead(long rows) {
+        SearchProfile profile = current();
+        if (profile != null) {
+            profile.rowsRead += rows;
+        }
+    }
+
+    static void statementStarted() {
+        SearchProfile profile = current();
+        if (profile != null) {
+            profile.statements++;
+            profile.jdbcStartedAt = System.nanoTime();
+        }
+    }
+
+    static void statementEnded() {
+        SearchProfile profile = current();
+        if (profile != null && profile.jdbcStartedAt != 0) {
+            profile.jdbcNanos += System.nanoTime() - profile.jdbcStartedAt;
+            profile.jdbcStartedAt = 0;
+        }
+    }
+
+    void setRowsReturned(long rowsReturned) {
+        this.rowsReturned = rowsReturned;
+    }
+
+    void addStage(Stage stage, long nanos) {
+        stageNanos[stage.ordinal()] += nanos;
+    }
+
+    Map<String, Object> toMetadata() {
+        Map<String, Object> stages = new LinkedHashMap<>();
+        for (Stage stage : Stage.values()) {
+            stages.put(toCamelCase(stage), stageNanos[stage.ordinal()]);
+        }
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("totalNanos", System.nanoTime() - startedAt);
+        metadata.put("stageNanos", stages);
+        metadata.put("statements", statements);
+        metadata.put("rowsRead", rowsRead);
+        metadata.put("rowsReturned", rowsReturned);
+        return metadata;
+    }
+
+    private static String toCamelCase(Stage stage) {
+        StringBuilder name = new StringBuilder();
+        for (String word : stage.name().toLowerCase(Locale.ROOT).split("_")) {
+            name.append(name.isEmpty() ? word : Character.toUpperCase(word.charAt(0)) + word.substring(1));
+        }
+        return name.toString();
+    }
+}
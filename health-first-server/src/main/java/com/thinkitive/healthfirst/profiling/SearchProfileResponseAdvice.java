@@ -0,0 +1,71 @@
+package com.thinkitive.healthfirst.profiling;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thinkitive.healthfirst.dto.response.ApiResponse;
+import com.thinkitive.healthfirst.dto.response.CompactAvailabilityListDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Adds the open {@link SearchProfile} to the metadata of the response it describes. The
+ * profile has to be in the body before the body is written, so serialization is timed
+ * on a dry run of the same data as JSON.
+ */
+@ControllerAdvice
+@RequiredArgsConstructor
+public class SearchProfileResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(Profiled.class);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SearchProfile profile = SearchProfile.current();
+        if (profile == null || !(body instanceof ApiResponse<?> apiResponse)) {
+            return body;
+        }
+        
+        long started = System.nanoTime();
+        try {
+            objectMapper.writeValue(OutputStream.nullOutputStream(), apiResponse.getData());
+        } catch (IOException ex) {
+            // the real write fails the same way and reports it
+        }
+        profile.addStage(SearchProfile.Stage.SERIALIZATION, System.nanoTime() - started);
+        profile.setRowsReturned(rowsOf(apiResponse.getData()));
+        
+        Map<String, Object> metadata = apiResponse.getMetadata() != null
+                ? new LinkedHashMap<>(apiResponse.getMetadata()) : new LinkedHashMap<>();
+        metadata.put("profile", profile.toMetadata());
+        apiResponse.setMetadata(metadata);
+        return apiResponse;
+    }
+
+    private static long rowsOf(Object data) {
+        if (data instanceof Collection<?> rows) {
+            return rows.size();
+        }
+        if (data instanceof CompactAvailabilityListDto compact && compact.getSlots() != null) {
+            return compact.getSlots().size();
+        }
+        return data != null ? 1 : 0;
+    }
+}
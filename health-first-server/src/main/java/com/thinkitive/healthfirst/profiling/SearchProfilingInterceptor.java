@@ -0,0 +1,43 @@
+package com.thinkitive.healthfirst.profiling;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Opens a {@link SearchProfile} for {@link Profiled} handlers called with
+ * {@code profile=true} by an administrator, and closes it once the request completes.
+ */
+@Component
+public class SearchProfilingInterceptor implements HandlerInterceptor {
+
+    public static final String PROFILE_PARAMETER = "profile";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)
+                || !"true".equalsIgnoreCase(request.getParameter(PROFILE_PARAMETER))
+                || !handlerMethod.hasMethodAnnotation(Profiled.class)) {
+            return true;
+        }
+        
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication.getAuthorities().stream()
+                .noneMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()))) {
+            throw new AccessDeniedException("Profiling is restricted to administrators");
+        }
+        SearchProfile.open();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        SearchProfile.close();
+    }
+}
@@ -0,0 +1,33 @@
+package com.thinkitive.healthfirst.repository;
+
+import com.thinkitive.healthfirst.entity.AvailabilityChangeEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface AvailabilityChangeRepository extends JpaRepository<AvailabilityChangeEntity, Long> {
+    
+    List<AvailabilityChangeEntity> findByProviderIdAndSequenceGreaterThanOrderBySequenceAsc(
+            UUID providerId, Long sequence, Pageable pageable);
+    
+    // Walks the provider's (provider_id, change_seq) index back from its newest change
+    Optional<AvailabilityChangeEntity> findFirstByProviderIdAndRecordedAtBeforeOrderBySequenceDesc(
+            UUID providerId, Instant before);
+    
+    Optional<AvailabilityChangeEntity> findFirstByOrderBySequenceAsc();
+    
+    // Served index-sorted by idx_availability_changes_recorded_at
+    Optional<AvailabilityChangeEntity> findFirstByRecordedAtBeforeOrderByRecordedAtDesc(Instant before);
+    
+    @Modifying
+    @Query("DELETE FROM AvailabilityChangeEntity c WHERE c.sequence < :sequence")
+    int deleteBySequenceLessThan(Long sequence);
+}
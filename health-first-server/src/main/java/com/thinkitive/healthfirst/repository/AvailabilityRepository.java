@@ -1,21 +1,46 @@
 package com.thinkitive.healthfirst.repository;
 
-import com.thinkitive.healthfirst.entity.AppointmentType;
 import com.thinkitive.healthfirst.entity.AvailabilityEntity;
 import com.thinkitive.healthfirst.entity.AvailabilityStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface AvailabilityRepository extends JpaRepository<AvailabilityEntity, UUID> {
     
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM AvailabilityEntity a WHERE a.id = :id")
+    Optional<AvailabilityEntity> findByIdForUpdate(UUID id);
+    
     List<AvailabilityEntity> findByProviderId(UUID providerId);
     
+    // Ordered so that the occurrences of a recurring series are adjacent and in date order
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT a FROM AvailabilityEntity a WHERE a.provider.id = :providerId " +
+           "ORDER BY a.isRecurring, a.recurrencePattern, a.startTime, a.endTime, " +
+           "a.appointmentType, a.status, a.timezone, a.date")
+    Stream<AvailabilityEntity> streamCalendarByProviderId(UUID providerId);
+    
+    // The dates each zone is in use, for the calendar feed's VTIMEZONE definitions
+    @Query("SELECT a.timezone AS timezone, MIN(a.date) AS firstDate, MAX(a.date) AS lastDate " +
+           "FROM AvailabilityEntity a WHERE a.provider.id = :providerId GROUP BY a.timezone")
+    List<TimezoneSpan> findTimezoneSpansByProviderId(UUID providerId);
+    
     List<AvailabilityEntity> findByProviderIdAndDateBetween(UUID providerId, LocalDate startDate, LocalDate endDate);
     
     List<AvailabilityEntity> findByProviderIdAndStatus(UUID providerId, AvailabilityStatus status);
@@ -23,15 +48,31 @@ public interface AvailabilityRepository extends JpaRepository<AvailabilityEntity
     List<AvailabilityEntity> findByProviderIdAndDateBetweenAndStatus(
             UUID providerId, LocalDate startDate, LocalDate endDate, AvailabilityStatus status);
     
-    @Query("SELECT a FROM AvailabilityEntity a WHERE a.status = :status " +
-           "AND a.date BETWEEN :startDate AND :endDate " +
-           "AND a.appointmentType = :appointmentType")
-    List<AvailabilityEntity> findAvailableSlotsByTypeAndDateRange(
-            AvailabilityStatus status, LocalDate startDate, LocalDate endDate, AppointmentType appointmentType);
-    
-    @Query("SELECT a FROM AvailabilityEntity a WHERE a.status = :status " +
-           "AND a.date BETWEEN :startDate AND :endDate " +
-           "AND a.provider.specialization = :specialization")
-    List<AvailabilityEntity> findAvailableSlotsBySpecializationAndDateRange(
-            AvailabilityStatus status, LocalDate startDate, LocalDate endDate, String specialization);
-} 
\ No newline at end of file
+    // State and zip code filters are a join on the small locations table; a null filter matches every row
+    @Query("SELECT a FROM AvailabilityEntity a JOIN FETCH a.provider LEFT JOIN FETCH a.location l " +
+           "WHERE a.status = :status AND a.date BETWEEN :startDate AND :endDate " +
+           "AND (:state IS NULL OR LOWER(l.address.state) = LOWER(:state)) " +
+           "AND (:zipCode IS NULL OR LOWER(l.address.zipCode) = LOWER(:zipCode))")
+    List<AvailabilityEntity> findByDateBetweenAndStatusWithProvider(
+            LocalDate startDate, LocalDate endDate, AvailabilityStatus status, String state, String zipCode);
+    
+    // Served by idx_availability_status_start_utc in start order, so the page stops the scan. Status
+    // is fixed, but H2 only reads an index in order when the sort names its columns from the first
+    @Query("SELECT a FROM AvailabilityEntity a " +
+           "WHERE a.status = :status AND a.startInstant >= :from AND a.startInstant < :to " +
+           "ORDER BY a.status, a.startInstant")
+    List<AvailabilityEntity> findStartingBetween(AvailabilityStatus status, Instant from, Instant to, Pageable pageable);
+    
+    List<AvailabilityEntity> findByStartInstantIsNull(Pageable pageable);
+    
+    List<AvailabilityEntity> findByProviderIdInAndDateBetweenAndStatus(
+            Collection<UUID> providerIds, LocalDate startDate, LocalDate endDate, AvailabilityStatus status);
+    
+    interface TimezoneSpan {
+        String getTimezone();
+        
+        LocalDate getFirstDate();
+        
+        LocalDate getLastDate();
+    }
+}
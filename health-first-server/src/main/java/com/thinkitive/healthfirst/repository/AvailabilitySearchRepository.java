@@ -0,0 +1,49 @@
+package com.thinkitive.healthfirst.repository;
+
+import com.thinkitive.healthfirst.entity.AppointmentType;
+import com.thinkitive.healthfirst.entity.AvailabilitySearchEntity;
+import com.thinkitive.healthfirst.entity.AvailabilityStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface AvailabilitySearchRepository extends JpaRepository<AvailabilitySearchEntity, UUID> {
+    
+    List<AvailabilitySearchEntity> findByDateBetweenOrderByDateAscStartTimeAsc(LocalDate startDate, LocalDate endDate);
+    
+    @Query("SELECT e.availabilityId FROM AvailabilitySearchEntity e " +
+           "WHERE e.specialization = :specialization AND e.date BETWEEN :startDate AND :endDate " +
+           "ORDER BY e.date, e.startTime")
+    List<UUID> findIdsBySpecializationAndDateRange(String specialization, LocalDate startDate, LocalDate endDate);
+    
+    @Query("SELECT e.availabilityId FROM AvailabilitySearchEntity e " +
+           "WHERE e.appointmentType = :appointmentType AND e.date BETWEEN :startDate AND :endDate " +
+           "ORDER BY e.date, e.startTime")
+    List<UUID> findIdsByAppointmentTypeAndDateRange(
+            AppointmentType appointmentType, LocalDate startDate, LocalDate endDate);
+    
+    @Modifying
+    @Query("UPDATE AvailabilitySearchEntity e SET e.specialization = :specialization, " +
+           "e.yearsOfExperience = :yearsOfExperience WHERE e.providerId = :providerId")
+    int updateProvider(UUID providerId, String specialization, Integer yearsOfExperience);
+    
+    @Modifying
+    @Query("DELETE FROM AvailabilitySearchEntity e WHERE e.date < :date")
+    int deleteByDateBefore(LocalDate date);
+    
+    // Set-based copy of every open slot from the given date on, for rebuilds
+    @Modifying
+    @Query("INSERT INTO AvailabilitySearchEntity (availabilityId, providerId, date, startTime, appointmentType, " +
+           "specialization, city, state, zipCode, insuranceAccepted, baseFee, yearsOfExperience) " +
+           "SELECT a.id, p.id, a.date, a.startTime, a.appointmentType, p.specialization, " +
+           "l.address.city, l.address.state, l.address.zipCode, " +
+           "a.pricing.insuranceAccepted, a.pricing.baseFee, p.yearsOfExperience " +
+           "FROM AvailabilityEntity a JOIN a.provider p LEFT JOIN a.location l WHERE a.status = :status AND a.date >= :fromDate")
+    int insertFromAvailability(AvailabilityStatus status, LocalDate fromDate);
+}
@@ -0,0 +1,14 @@
+package com.thinkitive.healthfirst.repository;
+
+import com.thinkitive.healthfirst.entity.Location;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface LocationRepository extends JpaRepository<Location, UUID> {
+    
+    Optional<Location> findByFingerprint(String fingerprint);
+}
@@ -16,4 +16,6 @@ public interface AuthService {
     JwtAuthResponse loginProvider(LoginRequestDto loginRequestDto);
     
     JwtAuthResponse loginPatient(LoginRequestDto loginRequestDto);
+    
+    JwtAuthResponse loginAdmin(LoginRequestDto loginRequestDto);
 } 
\ No newline at end of file
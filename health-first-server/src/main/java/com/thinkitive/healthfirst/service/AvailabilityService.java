@@ -3,10 +3,17 @@ package com.thinkitive.healthfirst.service;
 import com.thinkitive.healthfirst.dto.request.AvailabilityRequestDto;
 import com.thinkitive.healthfirst.dto.request.AvailabilitySearchRequestDto;
 import com.thinkitive.healthfirst.dto.response.AvailabilityResponseDto;
+import com.thinkitive.healthfirst.dto.response.AvailabilitySearchResultDto;
+import com.thinkitive.healthfirst.dto.response.AvailabilitySyncResponseDto;
+import com.thinkitive.healthfirst.dto.response.FreeGapDto;
+import com.thinkitive.healthfirst.dto.response.MonthlyAvailabilitySummaryDto;
+import com.thinkitive.healthfirst.dto.response.NearbyAvailabilityDto;
 import com.thinkitive.healthfirst.entity.AppointmentType;
 import com.thinkitive.healthfirst.entity.AvailabilityStatus;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.UUID;
 
@@ -26,16 +33,34 @@ public interface AvailabilityService {
     List<AvailabilityResponseDto> getAvailabilitiesByProviderIdAndStatus(
             UUID providerId, AvailabilityStatus status);
     
+    AvailabilitySyncResponseDto syncAvailabilities(UUID providerId, Long syncToken);
+    
+    List<MonthlyAvailabilitySummaryDto> getMonthlySummaries(List<UUID> providerIds, YearMonth from, YearMonth to);
+    
+    List<AvailabilityResponseDto> getNextAvailable(UUID providerId, String specialization, String city, int limit);
+    
+    List<FreeGapDto> findFreeGaps(UUID providerId, String specialization, int minutes,
+            LocalDate startDate, LocalDate endDate, int limit);
+    
     List<AvailabilityResponseDto> searchAvailabilities(AvailabilitySearchRequestDto searchRequestDto);
     
+    AvailabilitySearchResultDto searchAvailabilitiesWithFacets(AvailabilitySearchRequestDto searchRequestDto);
+    
+    List<NearbyAvailabilityDto> searchNearbyAvailabilities(AvailabilitySearchRequestDto searchRequestDto);
+    
     List<AvailabilityResponseDto> searchAvailabilitiesBySpecialization(
             String specialization, LocalDate startDate, LocalDate endDate);
     
     List<AvailabilityResponseDto> searchAvailabilitiesByAppointmentType(
             AppointmentType appointmentType, LocalDate startDate, LocalDate endDate);
     
+    List<AvailabilityResponseDto> searchAvailabilitiesInWindow(
+            Instant from, Instant to, AvailabilityStatus status, int limit);
+    
     AvailabilityResponseDto updateAvailability(UUID id, AvailabilityRequestDto requestDto);
     
+    AvailabilityResponseDto bookAvailability(UUID id);
+    
     void deleteAvailability(UUID id);
     
     void deleteRecurringAvailabilities(UUID id);
@@ -0,0 +1,10 @@
+package com.thinkitive.healthfirst.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.UUID;
+
+public interface CalendarExportService {
+    
+    void writeProviderCalendar(UUID providerId, OutputStream outputStream) throws IOException;
+}
@@ -0,0 +1,13 @@
+package com.thinkitive.healthfirst.service;
+
+import com.thinkitive.healthfirst.dto.request.LocationDto;
+import com.thinkitive.healthfirst.entity.Location;
+
+public interface LocationService {
+    
+    /**
+     * The stored location equal to {@code locationDto} after normalization, inserted first
+     * if there is none yet. Returns null for a null location.
+     */
+    Location resolve(LocationDto locationDto);
+}
@@ -1,6 +1,7 @@
 package com.thinkitive.healthfirst.service;
 
 import com.thinkitive.healthfirst.dto.response.ProviderResponseDto;
+import com.thinkitive.healthfirst.dto.response.ProviderSuggestionDto;
 import com.thinkitive.healthfirst.entity.ProviderEntity;
 
 import java.util.List;
@@ -16,6 +17,8 @@ public interface ProviderService {
     
     List<ProviderResponseDto> getProvidersBySpecialization(String specialization);
     
+    List<ProviderSuggestionDto> searchProviders(String query, int limit);
+    
     ProviderEntity getProviderEntityById(UUID id);
     
     ProviderEntity getProviderEntityByUserId(UUID userId);
@@ -0,0 +1,13 @@
+package com.thinkitive.healthfirst.service;
+
+import com.thinkitive.healthfirst.dto.response.CommonFreeTimeDto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface SchedulingService {
+    
+    List<CommonFreeTimeDto> findCommonFreeTime(
+            List<UUID> providerIds, int durationMinutes, Integer stepMinutes, LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,12 @@
+package com.thinkitive.healthfirst.service;
+
+public interface SearchModelService {
+    
+    /**
+     * Replaces the search read model with the open future slots in the availability table.
+     * Returns the number of rows written.
+     */
+    int rebuild();
+    
+    int purgeExpired();
+}
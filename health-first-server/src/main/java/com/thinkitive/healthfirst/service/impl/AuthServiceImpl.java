@@ -10,6 +10,8 @@ import com.thinkitive.healthfirst.entity.PatientEntity;
 import com.thinkitive.healthfirst.entity.ProviderEntity;
 import com.thinkitive.healthfirst.entity.UserEntity;
 import com.thinkitive.healthfirst.entity.UserRole;
+import com.thinkitive.healthfirst.event.PatientChangeEvent;
+import com.thinkitive.healthfirst.event.ProviderChangeEvent;
 import com.thinkitive.healthfirst.exception.BadRequestException;
 import com.thinkitive.healthfirst.exception.UnauthorizedException;
 import com.thinkitive.healthfirst.exception.ValidationException;
@@ -19,6 +21,7 @@ import com.thinkitive.healthfirst.repository.UserRepository;
 import com.thinkitive.healthfirst.security.JwtTokenProvider;
 import com.thinkitive.healthfirst.service.AuthService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -42,6 +45,7 @@ public class AuthServiceImpl implements AuthService {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider tokenProvider;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -64,7 +68,10 @@ public class AuthServiceImpl implements AuthService {
         
         ProviderEntity savedProvider = providerRepository.save(providerEntity);
         
-        return ProviderEntity.toDto(savedProvider);
+        ProviderResponseDto responseDto = ProviderEntity.toDto(savedProvider);
+        eventPublisher.publishEvent(new ProviderChangeEvent(responseDto));
+        
+        return responseDto;
     }
 
     @Override
@@ -88,7 +95,10 @@ public class AuthServiceImpl implements AuthService {
         
         PatientEntity savedPatient = patientRepository.save(patientEntity);
         
-        return PatientEntity.toDto(savedPatient);
+        PatientResponseDto responseDto = PatientEntity.toDto(savedPatient);
+        eventPublisher.publishEvent(new PatientChangeEvent(responseDto));
+        
+        return responseDto;
     }
 
     @Override
@@ -139,6 +149,28 @@ public class AuthServiceImpl implements AuthService {
                 .build();
     }
 
+    // Admin accounts have no profile and are provisioned directly in the users table
+    @Override
+    public JwtAuthResponse loginAdmin(LoginRequestDto loginRequestDto) {
+        Authentication authentication = authenticateUser(loginRequestDto.getUsername(), loginRequestDto.getPassword());
+        
+        UserEntity user = userRepository.findByEmail(loginRequestDto.getUsername())
+                .orElseThrow(() -> new UnauthorizedException("Invalid credentials"));
+        
+        if (user.getRole() != UserRole.ADMIN) {
+            throw new UnauthorizedException("Invalid admin credentials");
+        }
+        
+        String token = tokenProvider.generateToken(authentication);
+        
+        return JwtAuthResponse.builder()
+                .accessToken(token)
+                .tokenType("Bearer")
+                .expiresIn(tokenProvider.getExpirationTime())
+                .userData(UserEntity.toDto(user))
+                .build();
+    }
+
     private Authentication authenticateUser(String username, String password) {
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(username, password));
@@ -1,34 +1,97 @@
 package com.thinkitive.healthfirst.service.impl;
 
+import com.thinkitive.healthfirst.analytics.SearchDemandTracker;
+import com.thinkitive.healthfirst.dto.request.AddressDto;
 import com.thinkitive.healthfirst.dto.request.AvailabilityRequestDto;
 import com.thinkitive.healthfirst.dto.request.AvailabilitySearchRequestDto;
+import com.thinkitive.healthfirst.dto.request.AvailabilitySort;
 import com.thinkitive.healthfirst.dto.response.AvailabilityResponseDto;
+import com.thinkitive.healthfirst.dto.response.AvailabilitySearchResultDto;
+import com.thinkitive.healthfirst.dto.response.AvailabilitySyncResponseDto;
+import com.thinkitive.healthfirst.dto.response.FreeGapDto;
+import com.thinkitive.healthfirst.dto.response.MonthlyAvailabilitySummaryDto;
+import com.thinkitive.healthfirst.dto.response.NearbyAvailabilityDto;
+import com.thinkitive.healthfirst.entity.AvailabilityChangeEntity;
 import com.thinkitive.healthfirst.entity.AppointmentType;
 import com.thinkitive.healthfirst.entity.AvailabilityEntity;
+import com.thinkitive.healthfirst.entity.AvailabilitySearchEntity;
 import com.thinkitive.healthfirst.entity.AvailabilityStatus;
+import com.thinkitive.healthfirst.entity.Location;
 import com.thinkitive.healthfirst.entity.ProviderEntity;
 import com.thinkitive.healthfirst.entity.RecurrencePattern;
+import com.thinkitive.healthfirst.event.AvailabilityChangeEvent;
+import com.thinkitive.healthfirst.event.AvailabilityChangeType;
 import com.thinkitive.healthfirst.exception.BadRequestException;
 import com.thinkitive.healthfirst.exception.ResourceNotFoundException;
+import com.thinkitive.healthfirst.index.AvailabilityCalendarIndex;
+import com.thinkitive.healthfirst.index.AvailabilityTimes;
+import com.thinkitive.healthfirst.index.BitmapAvailabilityIndex;
+import com.thinkitive.healthfirst.index.ColumnarAvailabilityStore;
+import com.thinkitive.healthfirst.index.FreeBusyIndex;
+import com.thinkitive.healthfirst.index.GeoAvailabilityIndex;
+import com.thinkitive.healthfirst.index.NextAvailableIndex;
+import com.thinkitive.healthfirst.profiling.SearchProfile;
+import com.thinkitive.healthfirst.profiling.SearchProfile.Stage;
+import com.thinkitive.healthfirst.repository.AvailabilityChangeRepository;
 import com.thinkitive.healthfirst.repository.AvailabilityRepository;
+import com.thinkitive.healthfirst.repository.AvailabilitySearchRepository;
 import com.thinkitive.healthfirst.service.AvailabilityService;
+import com.thinkitive.healthfirst.service.LocationService;
 import com.thinkitive.healthfirst.service.ProviderService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class AvailabilityServiceImpl implements AvailabilityService {
 
+    private static final int SYNC_PAGE_SIZE = 1000;
+    private static final Duration SYNC_GRACE_PERIOD = Duration.ofSeconds(5);
+    private static final int MAX_SUMMARY_PROVIDERS = 200;
+    private static final int MAX_SUMMARY_MONTHS = 24;
+    private static final int MAX_NEXT_AVAILABLE = 100;
+    private static final int MAX_GAP_RANGE_DAYS = 90;
+    private static final int MAX_WINDOW_DAYS = 31;
+    private static final int MAX_WINDOW_LIMIT = 500;
+    private static final double DEFAULT_NEARBY_RADIUS_KM = 25;
+    private static final int DEFAULT_NEARBY_LIMIT = 50;
+
     private final AvailabilityRepository availabilityRepository;
+    private final AvailabilitySearchRepository availabilitySearchRepository;
+    private final AvailabilityChangeRepository availabilityChangeRepository;
     private final ProviderService providerService;
+    private final LocationService locationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AvailabilityCalendarIndex calendarIndex;
+    private final NextAvailableIndex nextAvailableIndex;
+    private final FreeBusyIndex freeBusyIndex;
+    private final GeoAvailabilityIndex geoAvailabilityIndex;
+    private final ColumnarAvailabilityStore columnarAvailabilityStore;
+    private final BitmapAvailabilityIndex bitmapAvailabilityIndex;
+    private final SearchDemandTracker searchDemandTracker;
 
     @Override
     @Transactional
@@ -38,9 +101,13 @@ public class AvailabilityServiceImpl implements AvailabilityService {
         ProviderEntity provider = providerService.getProviderEntityById(providerId);
         
         AvailabilityEntity availability = AvailabilityEntity.toEntityWithProvider(requestDto, provider);
+        availability.setLocation(locationService.resolve(requestDto.getLocation()));
         AvailabilityEntity savedAvailability = availabilityRepository.save(availability);
         
-        return AvailabilityEntity.toDto(savedAvailability);
+        AvailabilityResponseDto responseDto = AvailabilityEntity.toDto(savedAvailability);
+        eventPublisher.publishEvent(AvailabilityChangeEvent.created(responseDto));
+        
+        return responseDto;
     }
 
     @Override
@@ -49,6 +116,7 @@ public class AvailabilityServiceImpl implements AvailabilityService {
         validateRecurringAvailabilityRequest(requestDto);
         
         ProviderEntity provider = providerService.getProviderEntityById(providerId);
+        Location location = locationService.resolve(requestDto.getLocation());
         List<AvailabilityEntity> availabilities = new ArrayList<>();
         
         LocalDate startDate = requestDto.getDate();
@@ -60,6 +128,7 @@ public class AvailabilityServiceImpl implements AvailabilityService {
             AvailabilityRequestDto slotDto = copyAvailabilityRequestWithNewDate(requestDto, currentDate);
             
             AvailabilityEntity availability = AvailabilityEntity.toEntityWithProvider(slotDto, provider);
+            availability.setLocation(location);
             availabilities.add(availability);
             
             currentDate = getNextRecurrenceDate(currentDate, pattern);
@@ -67,9 +136,12 @@ public class AvailabilityServiceImpl implements AvailabilityService {
         
         List<AvailabilityEntity> savedAvailabilities = availabilityRepository.saveAll(availabilities);
         
-        return savedAvailabilities.stream()
+        List<AvailabilityResponseDto> responseDtos = savedAvailabilities.stream()
                 .map(AvailabilityEntity::toDto)
                 .collect(Collectors.toList());
+        responseDtos.forEach(dto -> eventPublisher.publishEvent(AvailabilityChangeEvent.created(dto)));
+        
+        return responseDtos;
     }
 
     @Override
@@ -85,11 +157,11 @@ public class AvailabilityServiceImpl implements AvailabilityService {
         // Verify provider exists
         providerService.getProviderEntityById(providerId);
         
+        long started = SearchProfile.start();
         List<AvailabilityEntity> availabilities = availabilityRepository.findByProviderId(providerId);
+        SearchProfile.endLoad(started);
         
-        return availabilities.stream()
-                .map(AvailabilityEntity::toDto)
-                .collect(Collectors.toList());
+        return toDtos(availabilities);
     }
 
     @Override
@@ -101,12 +173,12 @@ public class AvailabilityServiceImpl implements AvailabilityService {
         
         validateDateRange(startDate, endDate);
         
+        long started = SearchProfile.start();
         List<AvailabilityEntity> availabilities = 
                 availabilityRepository.findByProviderIdAndDateBetween(providerId, startDate, endDate);
+        SearchProfile.endLoad(started);
         
-        return availabilities.stream()
-                .map(AvailabilityEntity::toDto)
-                .collect(Collectors.toList());
+        return toDtos(availabilities);
     }
 
     @Override
@@ -116,83 +188,256 @@ public class AvailabilityServiceImpl implements AvailabilityService {
         // Verify provider exists
         providerService.getProviderEntityById(providerId);
         
+        long started = SearchProfile.start();
         List<AvailabilityEntity> availabilities = 
                 availabilityRepository.findByProviderIdAndStatus(providerId, status);
+        SearchProfile.endLoad(started);
         
-        return availabilities.stream()
-                .map(AvailabilityEntity::toDto)
-                .collect(Collectors.toList());
+        return toDtos(availabilities);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<AvailabilityResponseDto> searchAvailabilities(AvailabilitySearchRequestDto searchRequestDto) {
-        validateDateRange(searchRequestDto.getStartDate(), searchRequestDto.getEndDate());
+    public AvailabilitySyncResponseDto syncAvailabilities(UUID providerId, Long syncToken) {
+        // Verify provider exists
+        providerService.getProviderEntityById(providerId);
         
-        List<AvailabilityEntity> availabilities = availabilityRepository.findAll();
+        // Sequences are assigned at insert but become visible at commit, so the token never moves past
+        // the provider's changes younger than the grace period; those are re-sent on the next sync and
+        // applied idempotently. Without a settled change of its own in the log, the provider is settled
+        // up to the oldest retained entry, provided that entry is.
+        Instant settledBefore = Instant.now().minus(SYNC_GRACE_PERIOD);
+        Optional<AvailabilityChangeEntity> oldest = availabilityChangeRepository.findFirstByOrderBySequenceAsc();
+        long safeSequence = availabilityChangeRepository
+                .findFirstByProviderIdAndRecordedAtBeforeOrderBySequenceDesc(providerId, settledBefore)
+                .map(AvailabilityChangeEntity::getSequence)
+                .orElseGet(() -> oldest
+                        .filter(change -> change.getRecordedAt().isBefore(settledBefore))
+                        .map(change -> change.getSequence() - 1)
+                        .orElse(0L));
+        
+        // A token older than the retained log may have missed changes, deletes included
+        boolean tokenPruned = syncToken != null
+                && oldest.map(change -> syncToken + 1 < change.getSequence()).orElse(false);
+        
+        if (syncToken == null || syncToken <= 0 || tokenPruned) {
+            List<AvailabilityResponseDto> availabilities = availabilityRepository.findByProviderId(providerId)
+                    .stream()
+                    .map(AvailabilityEntity::toDto)
+                    .collect(Collectors.toList());
+            
+            return AvailabilitySyncResponseDto.builder()
+                    .syncToken(safeSequence)
+                    .fullSync(true)
+                    .hasMore(false)
+                    .upserts(availabilities)
+                    .deletedIds(new ArrayList<>())
+                    .build();
+        }
         
-        // Filter by date range
-        availabilities = availabilities.stream()
-                .filter(a -> !a.getDate().isBefore(searchRequestDto.getStartDate()) && 
-                             !a.getDate().isAfter(searchRequestDto.getEndDate()))
-                .collect(Collectors.toList());
+        List<AvailabilityChangeEntity> changes = availabilityChangeRepository
+                .findByProviderIdAndSequenceGreaterThanOrderBySequenceAsc(
+                        providerId, syncToken, PageRequest.of(0, SYNC_PAGE_SIZE));
+        
+        long nextToken = syncToken;
+        Map<UUID, AvailabilityChangeType> latestChanges = new LinkedHashMap<>();
+        for (AvailabilityChangeEntity change : changes) {
+            latestChanges.put(change.getAvailabilityId(), change.getChangeType());
+            if (change.getSequence() <= safeSequence) {
+                nextToken = change.getSequence();
+            }
+        }
         
-        // Filter by status
-        availabilities = availabilities.stream()
-                .filter(a -> a.getStatus() == AvailabilityStatus.AVAILABLE)
+        List<UUID> changedIds = latestChanges.entrySet().stream()
+                .filter(entry -> entry.getValue() != AvailabilityChangeType.DELETED)
+                .map(Map.Entry::getKey)
                 .collect(Collectors.toList());
-        
-        // Filter by specialization if provided
-        if (searchRequestDto.getSpecialization() != null && !searchRequestDto.getSpecialization().isEmpty()) {
-            availabilities = availabilities.stream()
-                    .filter(a -> a.getProvider().getSpecialization()
-                            .equalsIgnoreCase(searchRequestDto.getSpecialization()))
-                    .collect(Collectors.toList());
+        Map<UUID, AvailabilityEntity> current = availabilityRepository.findAllById(changedIds).stream()
+                .collect(Collectors.toMap(AvailabilityEntity::getId, Function.identity()));
+        
+        List<AvailabilityResponseDto> upserts = new ArrayList<>();
+        List<UUID> deletedIds = new ArrayList<>();
+        for (UUID availabilityId : latestChanges.keySet()) {
+            AvailabilityEntity availability = current.get(availabilityId);
+            if (availability != null) {
+                upserts.add(AvailabilityEntity.toDto(availability));
+            } else {
+                // deleted, possibly by a change beyond this page
+                deletedIds.add(availabilityId);
+            }
         }
         
-        // Filter by appointment type if provided
-        if (searchRequestDto.getAppointmentType() != null) {
-            availabilities = availabilities.stream()
-                    .filter(a -> a.getAppointmentType() == searchRequestDto.getAppointmentType())
-                    .collect(Collectors.toList());
+        return AvailabilitySyncResponseDto.builder()
+                .syncToken(nextToken)
+                .fullSync(false)
+                .hasMore(changes.size() == SYNC_PAGE_SIZE && nextToken > syncToken)
+                .upserts(upserts)
+                .deletedIds(deletedIds)
+                .build();
+    }
+
+    @Override
+    public List<MonthlyAvailabilitySummaryDto> getMonthlySummaries(List<UUID> providerIds, YearMonth from, YearMonth to) {
+        if (providerIds == null || providerIds.isEmpty()) {
+            throw new BadRequestException("At least one provider ID is required");
+        }
+        if (providerIds.size() > MAX_SUMMARY_PROVIDERS) {
+            throw new BadRequestException("At most " + MAX_SUMMARY_PROVIDERS + " providers can be summarized at once");
+        }
+        if (from.isAfter(to)) {
+            throw new BadRequestException("From month must be before or equal to to month");
+        }
+        if (from.plusMonths(MAX_SUMMARY_MONTHS).isBefore(to.plusMonths(1))) {
+            throw new BadRequestException("At most " + MAX_SUMMARY_MONTHS + " months can be summarized at once");
         }
         
-        // Filter by location if provided
-        if (searchRequestDto.getCity() != null && !searchRequestDto.getCity().isEmpty()) {
-            availabilities = availabilities.stream()
-                    .filter(a -> a.getLocation() != null && 
-                                 a.getLocation().getAddress() != null &&
-                                 searchRequestDto.getCity().equalsIgnoreCase(a.getLocation().getAddress().getCity()))
-                    .collect(Collectors.toList());
+        // Served from memory; unknown providers simply have no open days
+        return calendarIndex.summarize(new LinkedHashSet<>(providerIds), from, to);
+    }
+
+    @Override
+    public List<AvailabilityResponseDto> getNextAvailable(UUID providerId, String specialization, String city, int limit) {
+        if (limit < 1 || limit > MAX_NEXT_AVAILABLE) {
+            throw new BadRequestException("Limit must be between 1 and " + MAX_NEXT_AVAILABLE);
         }
         
-        if (searchRequestDto.getState() != null && !searchRequestDto.getState().isEmpty()) {
-            availabilities = availabilities.stream()
-                    .filter(a -> a.getLocation() != null && 
-                                 a.getLocation().getAddress() != null &&
-                                 searchRequestDto.getState().equalsIgnoreCase(a.getLocation().getAddress().getState()))
-                    .collect(Collectors.toList());
+        return nextAvailableIndex.next(providerId, specialization, city, Instant.now(), limit);
+    }
+
+    @Override
+    public List<FreeGapDto> findFreeGaps(UUID providerId, String specialization, int minutes,
+            LocalDate startDate, LocalDate endDate, int limit) {
+        if (providerId == null && (specialization == null || specialization.isBlank())) {
+            throw new BadRequestException("Either providerId or specialization is required");
+        }
+        if (minutes < FreeBusyIndex.UNIT_MINUTES || minutes > 24 * 60) {
+            throw new BadRequestException("Minutes must be between " + FreeBusyIndex.UNIT_MINUTES + " and 1440");
+        }
+        if (limit < 1 || limit > MAX_NEXT_AVAILABLE) {
+            throw new BadRequestException("Limit must be between 1 and " + MAX_NEXT_AVAILABLE);
+        }
+        validateDateRange(startDate, endDate);
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_GAP_RANGE_DAYS) {
+            throw new BadRequestException("Date range cannot exceed " + MAX_GAP_RANGE_DAYS + " days");
         }
         
-        if (searchRequestDto.getZipCode() != null && !searchRequestDto.getZipCode().isEmpty()) {
-            availabilities = availabilities.stream()
-                    .filter(a -> a.getLocation() != null && 
-                                 a.getLocation().getAddress() != null &&
-                                 searchRequestDto.getZipCode().equalsIgnoreCase(a.getLocation().getAddress().getZipCode()))
-                    .collect(Collectors.toList());
+        return freeBusyIndex.findGaps(providerId, specialization, minutes, startDate, endDate, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AvailabilityResponseDto> searchAvailabilities(AvailabilitySearchRequestDto searchRequestDto) {
+        validateDateRange(searchRequestDto.getStartDate(), searchRequestDto.getEndDate());
+        
+        // Attribute filters and rankings run on bitmaps; a plain date range is cheaper as a column
+        // scan. Either way only the rows that are returned get loaded
+        long started = SearchProfile.start();
+        List<UUID> matchingIds;
+        boolean ranked = searchRequestDto.getSortBy() != null && searchRequestDto.getSortBy() != AvailabilitySort.EARLIEST;
+        if (ranked || hasAttributeFilter(searchRequestDto)) {
+            matchingIds = bitmapAvailabilityIndex.search(searchRequestDto);
+        } else {
+            matchingIds = columnarAvailabilityStore.search(searchRequestDto);
+            if (searchRequestDto.getLimit() != null && matchingIds.size() > searchRequestDto.getLimit()) {
+                matchingIds = matchingIds.subList(0, searchRequestDto.getLimit());
+            }
         }
+        SearchProfile.end(Stage.INDEX, started);
+        searchDemandTracker.record(searchRequestDto, matchingIds.isEmpty());
+        return loadInOrder(matchingIds);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AvailabilitySearchResultDto searchAvailabilitiesWithFacets(AvailabilitySearchRequestDto searchRequestDto) {
+        validateDateRange(searchRequestDto.getStartDate(), searchRequestDto.getEndDate());
         
-        // Filter by insurance accepted if provided
-        if (searchRequestDto.getInsuranceAccepted() != null) {
-            availabilities = availabilities.stream()
-                    .filter(a -> a.getPricing() != null && 
-                                 searchRequestDto.getInsuranceAccepted().equals(a.getPricing().getInsuranceAccepted()))
-                    .collect(Collectors.toList());
+        Map<String, Long> specializations = new TreeMap<>();
+        Map<String, Long> appointmentTypes = new TreeMap<>();
+        Map<String, Long> cities = new TreeMap<>();
+        Map<String, Long> insurance = new TreeMap<>();
+        
+        // Open slots come from the narrow read model. It holds no other status and no past days, so
+        // those are projected from the joined tables into the same shape; a range reaching into the
+        // past reads the joined tables throughout, matching what the plain search returns
+        AvailabilityStatus status = searchRequestDto.getStatus() != null
+                ? searchRequestDto.getStatus() : AvailabilityStatus.AVAILABLE;
+        boolean fromReadModel = status == AvailabilityStatus.AVAILABLE
+                && !searchRequestDto.getStartDate().isBefore(LocalDate.now());
+        long started = SearchProfile.start();
+        List<AvailabilitySearchEntity> entries = fromReadModel
+                ? availabilitySearchRepository.findByDateBetweenOrderByDateAscStartTimeAsc(
+                        searchRequestDto.getStartDate(), searchRequestDto.getEndDate())
+                : availabilityRepository.findByDateBetweenAndStatusWithProvider(
+                                searchRequestDto.getStartDate(), searchRequestDto.getEndDate(), status,
+                                emptyToNull(searchRequestDto.getState()), emptyToNull(searchRequestDto.getZipCode()))
+                        .stream()
+                        .map(availability -> AvailabilitySearchEntity.toEntity(AvailabilityEntity.toDto(availability)))
+                        .sorted(Comparator.comparing(AvailabilitySearchEntity::getDate)
+                                .thenComparing(AvailabilitySearchEntity::getStartTime))
+                        .toList();
+        SearchProfile.endLoad(started);
+        
+        // One pass: a row counts towards a facet when it passes every filter except that facet's own,
+        // so each dimension shows what selecting another of its values would return
+        List<UUID> matchingIds = new ArrayList<>();
+        for (AvailabilitySearchEntity entry : entries) {
+            if (!matchesIgnoreCase(searchRequestDto.getState(), entry.getState())
+                    || !matchesIgnoreCase(searchRequestDto.getZipCode(), entry.getZipCode())) {
+                continue;
+            }
+            
+            boolean specializationMatches = matchesIgnoreCase(searchRequestDto.getSpecialization(),
+                    entry.getSpecialization());
+            boolean typeMatches = searchRequestDto.getAppointmentType() == null
+                    || searchRequestDto.getAppointmentType() == entry.getAppointmentType();
+            boolean cityMatches = matchesIgnoreCase(searchRequestDto.getCity(), entry.getCity());
+            boolean insuranceMatches = searchRequestDto.getInsuranceAccepted() == null
+                    || searchRequestDto.getInsuranceAccepted().equals(entry.getInsuranceAccepted());
+            int misses = (specializationMatches ? 0 : 1) + (typeMatches ? 0 : 1)
+                    + (cityMatches ? 0 : 1) + (insuranceMatches ? 0 : 1);
+            if (misses > 1) {
+                continue;
+            }
+            
+            if (misses == 0) {
+                matchingIds.add(entry.getAvailabilityId());
+            }
+            countFacet(specializations, entry.getSpecialization(), misses == 0 || !specializationMatches);
+            countFacet(appointmentTypes, entry.getAppointmentType().name(), misses == 0 || !typeMatches);
+            countFacet(cities, entry.getCity(), misses == 0 || !cityMatches);
+            countFacet(insurance, entry.getInsuranceAccepted() != null ? entry.getInsuranceAccepted().toString() : null,
+                    misses == 0 || !insuranceMatches);
+        }
+        List<AvailabilityResponseDto> results = loadInOrder(matchingIds);
+        
+        Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+        facets.put("specialization", specializations);
+        facets.put("appointmentType", appointmentTypes);
+        facets.put("city", cities);
+        facets.put("insuranceAccepted", insurance);
+        
+        return AvailabilitySearchResultDto.builder()
+                .availabilities(results)
+                .facets(facets)
+                .build();
+    }
+
+    @Override
+    public List<NearbyAvailabilityDto> searchNearbyAvailabilities(AvailabilitySearchRequestDto searchRequestDto) {
+        validateDateRange(searchRequestDto.getStartDate(), searchRequestDto.getEndDate());
+        if (searchRequestDto.getLatitude() == null || searchRequestDto.getLongitude() == null) {
+            throw new BadRequestException("Latitude and longitude are required");
         }
         
-        return availabilities.stream()
-                .map(AvailabilityEntity::toDto)
-                .collect(Collectors.toList());
+        double radiusKm = searchRequestDto.getRadiusKm() != null ? searchRequestDto.getRadiusKm() : DEFAULT_NEARBY_RADIUS_KM;
+        int limit = searchRequestDto.getLimit() != null ? searchRequestDto.getLimit() : DEFAULT_NEARBY_LIMIT;
+        
+        long started = SearchProfile.start();
+        List<NearbyAvailabilityDto> nearby = geoAvailabilityIndex.nearest(searchRequestDto.getLatitude(),
+                searchRequestDto.getLongitude(), radiusKm, limit, availability -> matchesSearch(availability, searchRequestDto));
+        SearchProfile.end(Stage.INDEX, started);
+        return nearby;
     }
 
     @Override
@@ -201,13 +446,11 @@ public class AvailabilityServiceImpl implements AvailabilityService {
             String specialization, LocalDate startDate, LocalDate endDate) {
         validateDateRange(startDate, endDate);
         
-        List<AvailabilityEntity> availabilities = 
-                availabilityRepository.findAvailableSlotsBySpecializationAndDateRange(
-                        AvailabilityStatus.AVAILABLE, startDate, endDate, specialization);
-        
-        return availabilities.stream()
-                .map(AvailabilityEntity::toDto)
-                .collect(Collectors.toList());
+        long started = SearchProfile.start();
+        List<UUID> ids = availabilitySearchRepository.findIdsBySpecializationAndDateRange(
+                specialization, startDate, endDate);
+        SearchProfile.endLoad(started);
+        return loadInOrder(ids);
     }
 
     @Override
@@ -216,13 +459,34 @@ public class AvailabilityServiceImpl implements AvailabilityService {
             AppointmentType appointmentType, LocalDate startDate, LocalDate endDate) {
         validateDateRange(startDate, endDate);
         
-        List<AvailabilityEntity> availabilities = 
-                availabilityRepository.findAvailableSlotsByTypeAndDateRange(
-                        AvailabilityStatus.AVAILABLE, startDate, endDate, appointmentType);
+        long started = SearchProfile.start();
+        List<UUID> ids = availabilitySearchRepository.findIdsByAppointmentTypeAndDateRange(
+                appointmentType, startDate, endDate);
+        SearchProfile.endLoad(started);
+        return loadInOrder(ids);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AvailabilityResponseDto> searchAvailabilitiesInWindow(
+            Instant from, Instant to, AvailabilityStatus status, int limit) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new BadRequestException("From must be before to");
+        }
+        if (Duration.between(from, to).compareTo(Duration.ofDays(MAX_WINDOW_DAYS)) > 0) {
+            throw new BadRequestException("The window cannot exceed " + MAX_WINDOW_DAYS + " days");
+        }
+        if (limit < 1 || limit > MAX_WINDOW_LIMIT) {
+            throw new BadRequestException("Limit must be between 1 and " + MAX_WINDOW_LIMIT);
+        }
         
-        return availabilities.stream()
-                .map(AvailabilityEntity::toDto)
-                .collect(Collectors.toList());
+        // Starts are absolute, so slots of providers in different timezones interleave in true order
+        long started = SearchProfile.start();
+        List<AvailabilityEntity> availabilities = availabilityRepository.findStartingBetween(
+                status != null ? status : AvailabilityStatus.AVAILABLE, from, to, PageRequest.of(0, limit));
+        SearchProfile.endLoad(started);
+        
+        return toDtos(availabilities);
     }
 
     @Override
@@ -231,20 +495,59 @@ public class AvailabilityServiceImpl implements AvailabilityService {
         validateAvailabilityRequest(requestDto);
         
         AvailabilityEntity availability = getAvailabilityEntityById(id);
+        // Taken before the update, so listeners keyed by location also reach those of the old one
+        AvailabilityResponseDto previous = AvailabilityEntity.toDto(availability);
         
         // Update the availability entity with new values
         AvailabilityEntity.updateEntity(requestDto, availability);
+        if (requestDto.getLocation() != null) {
+            availability.setLocation(locationService.resolve(requestDto.getLocation()));
+        }
         
         AvailabilityEntity updatedAvailability = availabilityRepository.save(availability);
         
-        return AvailabilityEntity.toDto(updatedAvailability);
+        AvailabilityResponseDto responseDto = AvailabilityEntity.toDto(updatedAvailability);
+        eventPublisher.publishEvent(AvailabilityChangeEvent.updated(previous, responseDto));
+        
+        return responseDto;
+    }
+
+    @Override
+    @Transactional
+    public AvailabilityResponseDto bookAvailability(UUID id) {
+        AvailabilityEntity availability = availabilityRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Availability", "id", id));
+        
+        if (availability.getStatus() != AvailabilityStatus.AVAILABLE) {
+            throw new BadRequestException("Availability is not open for booking");
+        }
+        
+        int capacity = availability.getTotalCapacity();
+        if (availability.getCurrentAppointments() >= capacity) {
+            throw new BadRequestException("Availability is fully booked");
+        }
+        
+        availability.setCurrentAppointments(availability.getCurrentAppointments() + 1);
+        boolean fullyBooked = availability.getCurrentAppointments() >= capacity;
+        if (fullyBooked) {
+            availability.setStatus(AvailabilityStatus.BOOKED);
+        }
+        
+        AvailabilityResponseDto responseDto = AvailabilityEntity.toDto(availabilityRepository.save(availability));
+        eventPublisher.publishEvent(fullyBooked
+                ? AvailabilityChangeEvent.statusChanged(responseDto)
+                : AvailabilityChangeEvent.updated(responseDto));
+        
+        return responseDto;
     }
 
     @Override
     @Transactional
     public void deleteAvailability(UUID id) {
         AvailabilityEntity availability = getAvailabilityEntityById(id);
+        AvailabilityResponseDto deletedAvailability = AvailabilityEntity.toDto(availability);
         availabilityRepository.delete(availability);
+        eventPublisher.publishEvent(AvailabilityChangeEvent.deleted(deletedAvailability));
     }
 
     @Override
@@ -266,7 +569,11 @@ public class AvailabilityServiceImpl implements AvailabilityService {
                              !a.getDate().isBefore(availability.getDate()))
                 .collect(Collectors.toList());
         
+        List<AvailabilityResponseDto> deletedAvailabilities = recurringAvailabilities.stream()
+                .map(AvailabilityEntity::toDto)
+                .collect(Collectors.toList());
         availabilityRepository.deleteAll(recurringAvailabilities);
+        deletedAvailabilities.forEach(dto -> eventPublisher.publishEvent(AvailabilityChangeEvent.deleted(dto)));
     }
     
     private AvailabilityEntity getAvailabilityEntityById(UUID id) {
@@ -287,6 +594,10 @@ public class AvailabilityServiceImpl implements AvailabilityService {
             throw new BadRequestException("Slot duration must be positive");
         }
         
+        if (!AvailabilityTimes.isValidZone(requestDto.getTimezone())) {
+            throw new BadRequestException("Timezone must be a valid zone id such as America/New_York");
+        }
+        
         if (requestDto.getBreakDuration() < 0) {
             throw new BadRequestException("Break duration cannot be negative");
         }
@@ -312,6 +623,71 @@ public class AvailabilityServiceImpl implements AvailabilityService {
         }
     }
     
+    // Same filters as searchAvailabilities, applied to indexed DTOs (which are all AVAILABLE with capacity)
+    private boolean matchesSearch(AvailabilityResponseDto availability, AvailabilitySearchRequestDto search) {
+        if (availability.getDate().isBefore(search.getStartDate()) || availability.getDate().isAfter(search.getEndDate())) {
+            return false;
+        }
+        if (search.getSpecialization() != null && !search.getSpecialization().isEmpty()
+                && !search.getSpecialization().equalsIgnoreCase(availability.getSpecialization())) {
+            return false;
+        }
+        if (search.getAppointmentType() != null && search.getAppointmentType() != availability.getAppointmentType()) {
+            return false;
+        }
+        AddressDto address = availability.getLocation() != null ? availability.getLocation().getAddress() : null;
+        if (!matchesIgnoreCase(search.getCity(), address != null ? address.getCity() : null)
+                || !matchesIgnoreCase(search.getState(), address != null ? address.getState() : null)
+                || !matchesIgnoreCase(search.getZipCode(), address != null ? address.getZipCode() : null)) {
+            return false;
+        }
+        return search.getInsuranceAccepted() == null || (availability.getPricing() != null
+                && search.getInsuranceAccepted().equals(availability.getPricing().getInsuranceAccepted()));
+    }
+    
+    // Rows removed since their id was read are skipped
+    private List<AvailabilityResponseDto> loadInOrder(List<UUID> ids) {
+        long started = SearchProfile.start();
+        Map<UUID, AvailabilityEntity> availabilities = availabilityRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(AvailabilityEntity::getId, Function.identity()));
+        SearchProfile.endLoad(started);
+        
+        return toDtos(ids.stream()
+                .map(availabilities::get)
+                .filter(Objects::nonNull)
+                .toList());
+    }
+    
+    private static List<AvailabilityResponseDto> toDtos(List<AvailabilityEntity> availabilities) {
+        long started = SearchProfile.start();
+        List<AvailabilityResponseDto> dtos = availabilities.stream()
+                .map(AvailabilityEntity::toDto)
+                .collect(Collectors.toList());
+        SearchProfile.end(Stage.MAPPING, started);
+        return dtos;
+    }
+    
+    private static void countFacet(Map<String, Long> counts, String value, boolean counted) {
+        if (counted && value != null) {
+            counts.merge(value, 1L, Long::sum);
+        }
+    }
+    
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+    
+    private static boolean matchesIgnoreCase(String wanted, String actual) {
+        return wanted == null || wanted.isEmpty() || wanted.equalsIgnoreCase(actual);
+    }
+    
+    private static boolean hasAttributeFilter(AvailabilitySearchRequestDto search) {
+        return search.getSpecialization() != null || search.getAppointmentType() != null
+                || search.getCity() != null || search.getState() != null || search.getZipCode() != null
+                || search.getInsuranceAccepted() != null
+                || (search.getStatus() != null && search.getStatus() != AvailabilityStatus.AVAILABLE);
+    }
+    
     private void validateDateRange(LocalDate startDate, LocalDate endDate) {
         if (startDate == null || endDate == null) {
             throw new BadRequestException("Start date and end date are required");
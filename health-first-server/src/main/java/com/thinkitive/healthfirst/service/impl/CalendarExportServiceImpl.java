@@ -0,0 +1,330 @@
+package com.thinkitive.healthfirst.service.impl;
+
+import com.thinkitive.healthfirst.entity.Address;
+import com.thinkitive.healthfirst.entity.AppointmentType;
+import com.thinkitive.healthfirst.entity.AvailabilityEntity;
+import com.thinkitive.healthfirst.entity.AvailabilityStatus;
+import com.thinkitive.healthfirst.entity.ProviderEntity;
+import com.thinkitive.healthfirst.entity.RecurrencePattern;
+import com.thinkitive.healthfirst.index.AvailabilityTimes;
+import com.thinkitive.healthfirst.repository.AvailabilityRepository;
+import com.thinkitive.healthfirst.service.CalendarExportService;
+import com.thinkitive.healthfirst.service.ProviderService;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Writes a provider's schedule as iCalendar while streaming rows from the database.
+ * Occurrences of a recurring series arrive adjacent and in date order, so a series
+ * is folded into a single VEVENT with an RRULE (plus EXDATEs for removed occurrences)
+ * holding only that series in memory.
+ * <p>
+ * Times stay in the availability's zone, so a weekly 09:00 series is still 09:00 after a DST
+ * change. Each zone used is defined up front by a VTIMEZONE built from the zone's rules over
+ * the dates the provider has in it.
+ */
+@Service
+@RequiredArgsConstructor
+public class CalendarExportServiceImpl implements CalendarExportService {
+
+    private static final DateTimeFormatter LOCAL_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter UTC_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+    private static final DateTimeFormatter OFFSET_FORMAT = DateTimeFormatter.ofPattern("xxxx");
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private final AvailabilityRepository availabilityRepository;
+    private final ProviderService providerService;
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void writeProviderCalendar(UUID providerId, OutputStream outputStream) throws IOException {
+        ProviderEntity provider = providerService.getProviderEntityById(providerId);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        writeLine(writer, "BEGIN:VCALENDAR");
+        writeLine(writer, "VERSION:2.0");
+        writeLine(writer, "PRODID:-//Thinkitive//HealthFirst//EN");
+        writeLine(writer, "CALSCALE:GREGORIAN");
+        writeLine(writer, "X-WR-CALNAME:" + escape(provider.getFirstName() + " " + provider.getLastName()));
+        writeTimezones(writer, availabilityRepository.findTimezoneSpansByProviderId(providerId));
+
+        try (Stream<AvailabilityEntity> rows = availabilityRepository.streamCalendarByProviderId(providerId)) {
+            Series series = null;
+            Iterator<AvailabilityEntity> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                AvailabilityEntity availability = iterator.next();
+                // keep the persistence context from growing with the schedule
+                entityManager.detach(availability);
+
+                if (series != null && series.sameKey(availability)) {
+                    if (series.accepts(availability)) {
+                        series.add(availability);
+                    } else {
+                        // an edited occurrence replaces the one generated by the rule
+                        series.exclude(availability.getDate());
+                        writeEvent(writer, availability, null);
+                    }
+                    continue;
+                }
+                if (series != null) {
+                    series.write(writer);
+                }
+                series = Series.startsWith(availability);
+                if (series == null) {
+                    writeEvent(writer, availability, null);
+                }
+            }
+            if (series != null) {
+                series.write(writer);
+            }
+        }
+
+        writeLine(writer, "END:VCALENDAR");
+        writer.flush();
+    }
+
+    private static void writeEvent(Writer writer, AvailabilityEntity availability, Series series) throws IOException {
+        ZoneId zone = zoneOf(availability.getTimezone());
+        LocalDateTime stamp = availability.getUpdatedAt() != null ? availability.getUpdatedAt()
+                : availability.getCreatedAt() != null ? availability.getCreatedAt() : LocalDateTime.now();
+
+        writeLine(writer, "BEGIN:VEVENT");
+        writeLine(writer, "UID:" + availability.getId() + "@healthfirst");
+        writeLine(writer, "DTSTAMP:" + UTC_FORMAT.format(stamp.atZone(ZoneId.systemDefault())
+                .withZoneSameInstant(ZoneOffset.UTC)));
+        writeLine(writer, "DTSTART" + dateTime(zone, availability.getDate(), availability.getStartTime()));
+        writeLine(writer, "DTEND" + dateTime(zone, availability.getDate(), availability.getEndTime()));
+        if (series != null) {
+            writeLine(writer, "RRULE:FREQ=" + series.pattern.name() + ";COUNT=" + series.countThroughLast);
+            for (LocalDate excluded : series.excluded) {
+                writeLine(writer, "EXDATE" + dateTime(zone, excluded, availability.getStartTime()));
+            }
+        }
+        writeLine(writer, "SUMMARY:" + escape(summaryOf(availability.getStatus(), availability.getAppointmentType())));
+        writeLine(writer, "STATUS:" + (availability.getStatus() == AvailabilityStatus.CANCELLED ? "CANCELLED" : "CONFIRMED"));
+        writeLine(writer, "TRANSP:" + (availability.getStatus() == AvailabilityStatus.AVAILABLE ? "TRANSPARENT" : "OPAQUE"));
+        if (availability.getLocation() != null) {
+            writeLine(writer, "LOCATION:" + escape(locationOf(availability)));
+        }
+        if (availability.getNotes() != null && !availability.getNotes().isBlank()) {
+            writeLine(writer, "DESCRIPTION:" + escape(availability.getNotes()));
+        }
+        writeLine(writer, "END:VEVENT");
+    }
+
+    private static void writeTimezones(Writer writer, List<AvailabilityRepository.TimezoneSpan> spans) throws IOException {
+        // spellings that resolve to the same zone share one definition
+        Map<ZoneId, LocalDate[]> dates = new LinkedHashMap<>();
+        for (AvailabilityRepository.TimezoneSpan span : spans) {
+            ZoneId zone = zoneOf(span.getTimezone());
+            if (zone != null) {
+                dates.merge(zone, new LocalDate[]{span.getFirstDate(), span.getLastDate()}, (known, added) -> new LocalDate[]{
+                        known[0].isBefore(added[0]) ? known[0] : added[0],
+                        known[1].isAfter(added[1]) ? known[1] : added[1]});
+            }
+        }
+        for (Map.Entry<ZoneId, LocalDate[]> zone : dates.entrySet()) {
+            writeTimezone(writer, zone.getKey(), zone.getValue()[0], zone.getValue()[1]);
+        }
+    }
+
+    /**
+     * Defines the zone by the offset in effect on its first date plus every transition up to
+     * the day after its last, which covers every local time the feed writes in it.
+     */
+    private static void writeTimezone(Writer writer, ZoneId zone, LocalDate first, LocalDate last) throws IOException {
+        ZoneRules rules = zone.getRules();
+        Instant from = first.minusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+        Instant to = last.plusDays(2).atStartOfDay(ZoneOffset.UTC).toInstant();
+
+        writeLine(writer, "BEGIN:VTIMEZONE");
+        writeLine(writer, "TZID:" + zone.getId());
+        ZoneOffset offset = rules.getOffset(from);
+        writeObservance(writer, rules.isDaylightSavings(from), LocalDateTime.ofInstant(from, offset), offset, offset);
+        for (ZoneOffsetTransition transition = rules.nextTransition(from);
+             transition != null && transition.getInstant().isBefore(to);
+             transition = rules.nextTransition(transition.getInstant())) {
+            writeObservance(writer, rules.isDaylightSavings(transition.getInstant()), transition.getDateTimeBefore(),
+                    transition.getOffsetBefore(), transition.getOffsetAfter());
+        }
+        writeLine(writer, "END:VTIMEZONE");
+    }
+
+    private static void writeObservance(Writer writer, boolean daylight, LocalDateTime start,
+                                        ZoneOffset offsetFrom, ZoneOffset offsetTo) throws IOException {
+        String component = daylight ? "DAYLIGHT" : "STANDARD";
+        writeLine(writer, "BEGIN:" + component);
+        writeLine(writer, "DTSTART:" + LOCAL_FORMAT.format(start));
+        writeLine(writer, "TZOFFSETFROM:" + OFFSET_FORMAT.format(offsetFrom));
+        writeLine(writer, "TZOFFSETTO:" + OFFSET_FORMAT.format(offsetTo));
+        writeLine(writer, "END:" + component);
+    }
+
+    private static String dateTime(ZoneId zone, LocalDate date, LocalTime time) {
+        String local = LOCAL_FORMAT.format(LocalDateTime.of(date, time));
+        // without a resolvable zone the time is written as floating local time
+        return zone != null ? ";TZID=" + zone.getId() + ":" + local : ":" + local;
+    }
+
+    private static ZoneId zoneOf(String timezone) {
+        return AvailabilityTimes.isValidZone(timezone) ? AvailabilityTimes.zoneOf(timezone) : null;
+    }
+
+    private static String summaryOf(AvailabilityStatus status, AppointmentType appointmentType) {
+        String type = appointmentType.name().charAt(0) + appointmentType.name().substring(1).toLowerCase().replace('_', ' ');
+        String state = status.name().charAt(0) + status.name().substring(1).toLowerCase();
+        return state + " - " + type;
+    }
+
+    private static String locationOf(AvailabilityEntity availability) {
+        List<String> parts = new ArrayList<>();
+        Address address = availability.getLocation().getAddress();
+        if (address != null) {
+            Stream.of(address.getStreet(), address.getCity(), address.getState(), address.getZipCode(), address.getCountry())
+                    .filter(part -> part != null && !part.isBlank())
+                    .forEach(parts::add);
+        }
+        if (availability.getLocation().getRoomNumber() != null) {
+            parts.add("Room " + availability.getLocation().getRoomNumber());
+        }
+        return String.join(", ", parts);
+    }
+
+    // locations are shared rows, so the same place is the same id
+    private static UUID locationIdOf(AvailabilityEntity availability) {
+        return availability.getLocation() != null ? availability.getLocation().getId() : null;
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n");
+    }
+
+    private static void writeLine(Writer writer, String line) throws IOException {
+        // fold content lines at 75 octets without splitting a UTF-8 sequence
+        int octets = 0;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            int width = c < 0x80 ? 1 : c < 0x800 ? 2 : Character.isHighSurrogate(c) ? 4 : Character.isLowSurrogate(c) ? 0 : 3;
+            if (octets + width > MAX_LINE_OCTETS) {
+                writer.write("\r\n ");
+                octets = 1;
+            }
+            writer.write(c);
+            octets += width;
+        }
+        writer.write("\r\n");
+    }
+
+    private static final class Series {
+        private final AvailabilityEntity first;
+        private final RecurrencePattern pattern;
+        private final List<LocalDate> excluded = new ArrayList<>();
+        private LocalDate next;
+        private int count;
+        private LocalDate lastIncluded;
+        private int countThroughLast;
+
+        private Series(AvailabilityEntity first) {
+            this.first = first;
+            this.pattern = first.getRecurrencePattern();
+            this.next = first.getDate();
+        }
+
+        static Series startsWith(AvailabilityEntity availability) {
+            if (!Boolean.TRUE.equals(availability.getIsRecurring()) || availability.getRecurrencePattern() == null) {
+                return null;
+            }
+            // the generator clamps month ends (Jan 31 -> Feb 28 -> Mar 28), which an RRULE cannot express
+            if (availability.getRecurrencePattern() == RecurrencePattern.MONTHLY && availability.getDate().getDayOfMonth() > 28) {
+                return null;
+            }
+            Series series = new Series(availability);
+            series.add(availability);
+            return series;
+        }
+
+        boolean sameKey(AvailabilityEntity availability) {
+            return Boolean.TRUE.equals(availability.getIsRecurring())
+                    && availability.getRecurrencePattern() == pattern
+                    && availability.getStartTime().equals(first.getStartTime())
+                    && availability.getEndTime().equals(first.getEndTime())
+                    && availability.getAppointmentType() == first.getAppointmentType()
+                    && availability.getStatus() == first.getStatus()
+                    && Objects.equals(availability.getTimezone(), first.getTimezone());
+        }
+
+        boolean accepts(AvailabilityEntity availability) {
+            return !availability.getDate().isBefore(next)
+                    && Objects.equals(locationIdOf(availability), locationIdOf(first))
+                    && Objects.equals(availability.getPricing(), first.getPricing())
+                    && Objects.equals(availability.getNotes(), first.getNotes());
+        }
+
+        void add(AvailabilityEntity availability) {
+            // every expected occurrence skipped on the way is one that was deleted
+            while (next.isBefore(availability.getDate())) {
+                excluded.add(next);
+                advance();
+            }
+            if (next.equals(availability.getDate())) {
+                advance();
+                lastIncluded = availability.getDate();
+                countThroughLast = count;
+            }
+        }
+
+        void exclude(LocalDate date) {
+            // dates before next are either already excluded or duplicates of an included occurrence
+            while (!next.isAfter(date)) {
+                excluded.add(next);
+                advance();
+            }
+        }
+
+        void write(Writer writer) throws IOException {
+            // occurrences after the last real one are cut off by COUNT rather than listed as EXDATEs
+            excluded.removeIf(date -> date.isAfter(lastIncluded));
+            writeEvent(writer, first, countThroughLast > 1 ? this : null);
+        }
+
+        private void advance() {
+            count++;
+            next = switch (pattern) {
+                case DAILY -> next.plusDays(1);
+                case WEEKLY -> next.plusWeeks(1);
+                case MONTHLY -> next.plusMonths(1);
+            };
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.thinkitive.healthfirst.service.impl;
+
+import com.thinkitive.healthfirst.dto.request.LocationDto;
+import com.thinkitive.healthfirst.entity.Location;
+import com.thinkitive.healthfirst.repository.LocationRepository;
+import com.thinkitive.healthfirst.service.LocationService;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+@Service
+public class LocationServiceImpl implements LocationService {
+
+    private final LocationRepository locationRepository;
+    private final TransactionTemplate newTransaction;
+
+    public LocationServiceImpl(LocationRepository locationRepository, PlatformTransactionManager transactionManager) {
+        this.locationRepository = locationRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public Location resolve(LocationDto locationDto) {
+        if (locationDto == null) {
+            return null;
+        }
+        String fingerprint = Location.fingerprintOf(locationDto);
+        Optional<Location> existing = locationRepository.findByFingerprint(fingerprint);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        
+        // Inserted in its own transaction so that losing a race with another request for the same
+        // place fails only the insert, after which the winner's row is read back
+        try {
+            newTransaction.executeWithoutResult(status -> locationRepository.saveAndFlush(Location.toEntity(locationDto)));
+        } catch (DataIntegrityViolationException e) {
+            // the unique fingerprint index rejected a concurrent duplicate
+        }
+        return locationRepository.findByFingerprint(fingerprint)
+                .orElseThrow(() -> new IllegalStateException("Location " + fingerprint + " was not stored"));
+    }
+}
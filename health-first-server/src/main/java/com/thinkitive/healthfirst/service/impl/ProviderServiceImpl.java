@@ -1,8 +1,11 @@
 package com.thinkitive.healthfirst.service.impl;
 
 import com.thinkitive.healthfirst.dto.response.ProviderResponseDto;
+import com.thinkitive.healthfirst.dto.response.ProviderSuggestionDto;
 import com.thinkitive.healthfirst.entity.ProviderEntity;
+import com.thinkitive.healthfirst.exception.BadRequestException;
 import com.thinkitive.healthfirst.exception.ResourceNotFoundException;
+import com.thinkitive.healthfirst.index.ProviderSearchIndex;
 import com.thinkitive.healthfirst.repository.ProviderRepository;
 import com.thinkitive.healthfirst.service.ProviderService;
 import lombok.RequiredArgsConstructor;
@@ -17,7 +20,10 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ProviderServiceImpl implements ProviderService {
 
+    private static final int MAX_SUGGESTIONS = 50;
+
     private final ProviderRepository providerRepository;
+    private final ProviderSearchIndex providerSearchIndex;
 
     @Override
     @Transactional(readOnly = true)
@@ -50,6 +56,17 @@ public class ProviderServiceImpl implements ProviderService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<ProviderSuggestionDto> searchProviders(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query is required");
+        }
+        if (limit < 1 || limit > MAX_SUGGESTIONS) {
+            throw new BadRequestException("Limit must be between 1 and " + MAX_SUGGESTIONS);
+        }
+        return providerSearchIndex.search(query, limit);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public ProviderEntity getProviderEntityById(UUID id) {
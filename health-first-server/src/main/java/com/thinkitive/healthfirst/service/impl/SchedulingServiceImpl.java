@@ -0,0 +1,158 @@
+package com.thinkitive.healthfirst.service.impl;
+
+import com.thinkitive.healthfirst.dto.response.CommonFreeTimeDto;
+import com.thinkitive.healthfirst.entity.AvailabilityEntity;
+import com.thinkitive.healthfirst.entity.AvailabilityStatus;
+import com.thinkitive.healthfirst.exception.BadRequestException;
+import com.thinkitive.healthfirst.index.AvailabilityTimes;
+import com.thinkitive.healthfirst.index.SlotCapacity;
+import com.thinkitive.healthfirst.repository.AvailabilityRepository;
+import com.thinkitive.healthfirst.service.ProviderService;
+import com.thinkitive.healthfirst.service.SchedulingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Finds time when several providers are free at once. Each provider's open slots (breaks
+ * and slots already filled are busy, as in {@code FreeBusyIndex}) are merged into windows,
+ * then all window boundaries are swept in time order; wherever every provider is inside a
+ * window at the same time, that stretch is common free time.
+ */
+@Service
+@RequiredArgsConstructor
+public class SchedulingServiceImpl implements SchedulingService {
+
+    private static final int MAX_PROVIDERS = 20;
+    private static final int MAX_RANGE_DAYS = 180;
+    private static final int MAX_CANDIDATES = 1000;
+    private static final int MIN_STEP_MINUTES = 5;
+
+    private final AvailabilityRepository availabilityRepository;
+    private final ProviderService providerService;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CommonFreeTimeDto> findCommonFreeTime(
+            List<UUID> providerIds, int durationMinutes, Integer stepMinutes, LocalDate startDate, LocalDate endDate) {
+        Set<UUID> providers = providerIds != null ? new LinkedHashSet<>(providerIds) : Set.of();
+        if (providers.isEmpty()) {
+            throw new BadRequestException("At least one provider ID is required");
+        }
+        if (providers.size() > MAX_PROVIDERS) {
+            throw new BadRequestException("At most " + MAX_PROVIDERS + " providers can be compared at once");
+        }
+        if (durationMinutes < MIN_STEP_MINUTES || durationMinutes > 24 * 60) {
+            throw new BadRequestException("Duration must be between " + MIN_STEP_MINUTES + " and 1440 minutes");
+        }
+        int step = stepMinutes != null ? stepMinutes : durationMinutes;
+        if (step < MIN_STEP_MINUTES) {
+            throw new BadRequestException("Step must be at least " + MIN_STEP_MINUTES + " minutes");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new BadRequestException("Start date must be before or equal to end date");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_RANGE_DAYS) {
+            throw new BadRequestException("Date range cannot exceed " + MAX_RANGE_DAYS + " days");
+        }
+        providers.forEach(providerService::getProviderEntityById);
+        
+        // The range is taken in UTC; neighbouring days are loaded so windows in other zones that cross into it are seen
+        long rangeStart = startDate.atStartOfDay(ZoneOffset.UTC).toEpochSecond();
+        long rangeEnd = endDate.plusDays(1).atStartOfDay(ZoneOffset.UTC).toEpochSecond();
+        List<AvailabilityEntity> availabilities = availabilityRepository.findByProviderIdInAndDateBetweenAndStatus(
+                providers, startDate.minusDays(1), endDate.plusDays(1), AvailabilityStatus.AVAILABLE);
+        
+        Map<UUID, List<long[]>> windows = new HashMap<>();
+        for (AvailabilityEntity availability : availabilities) {
+            int booked = availability.getCurrentAppointments() != null ? availability.getCurrentAppointments() : 0;
+            if (booked >= availability.getTotalCapacity()) {
+                continue;
+            }
+            for (int[] slot : SlotCapacity.openSlots(availability.getStartTime(), availability.getEndTime(),
+                    availability.getSlotDuration(), availability.getBreakDuration(),
+                    availability.getMaxAppointmentsPerSlot(), availability.getCurrentAppointments())) {
+                long start = Math.max(rangeStart, epochSecondAt(availability, slot[0]));
+                long end = Math.min(rangeEnd, epochSecondAt(availability, slot[1]));
+                if (start < end) {
+                    windows.computeIfAbsent(availability.getProvider().getId(), key -> new ArrayList<>())
+                            .add(new long[] {start, end});
+                }
+            }
+        }
+        if (windows.size() < providers.size()) {
+            return new ArrayList<>();
+        }
+        
+        // Boundaries are packed as (second << 1 | isStart) so a plain sort orders them by time, ends before starts
+        long[] events = windows.values().stream()
+                .flatMap(providerWindows -> merge(providerWindows).stream())
+                .flatMapToLong(window -> Arrays.stream(new long[] {window[0] << 1 | 1, window[1] << 1}))
+                .toArray();
+        Arrays.sort(events);
+        
+        long duration = durationMinutes * 60L;
+        long stepSeconds = step * 60L;
+        int candidates = 0;
+        int open = 0;
+        long commonStart = 0;
+        List<CommonFreeTimeDto> result = new ArrayList<>();
+        for (long event : events) {
+            long second = event >> 1;
+            if ((event & 1) == 1) {
+                if (++open == providers.size()) {
+                    commonStart = second;
+                }
+                continue;
+            }
+            if (open-- == providers.size() && second - commonStart >= duration) {
+                List<Instant> starts = new ArrayList<>();
+                for (long candidate = commonStart; candidate + duration <= second && candidates < MAX_CANDIDATES;
+                     candidate += stepSeconds, candidates++) {
+                    starts.add(Instant.ofEpochSecond(candidate));
+                }
+                result.add(CommonFreeTimeDto.builder()
+                        .windowStart(Instant.ofEpochSecond(commonStart))
+                        .windowEnd(Instant.ofEpochSecond(second))
+                        .candidateStarts(starts)
+                        .build());
+            }
+        }
+        return result;
+    }
+
+    private static long epochSecondAt(AvailabilityEntity availability, int minuteOfDay) {
+        return AvailabilityTimes.toInstant(availability.getDate(), LocalTime.ofSecondOfDay(minuteOfDay * 60L),
+                availability.getTimezone()).getEpochSecond();
+    }
+
+    // Overlapping or touching windows of one provider become one, so the sweep count never exceeds one per provider
+    private static List<long[]> merge(List<long[]> windows) {
+        windows.sort((a, b) -> Long.compare(a[0], b[0]));
+        List<long[]> merged = new ArrayList<>();
+        long[] current = null;
+        for (long[] window : windows) {
+            if (current != null && window[0] <= current[1]) {
+                current[1] = Math.max(current[1], window[1]);
+            } else {
+                current = window;
+                merged.add(current);
+            }
+        }
+        return merged;
+    }
+}
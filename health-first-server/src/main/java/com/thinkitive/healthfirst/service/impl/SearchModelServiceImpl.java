@@ -0,0 +1,54 @@
+package com.thinkitive.healthfirst.service.impl;
+
+import com.thinkitive.healthfirst.entity.AvailabilityStatus;
+import com.thinkitive.healthfirst.repository.AvailabilityRepository;
+import com.thinkitive.healthfirst.repository.AvailabilitySearchRepository;
+import com.thinkitive.healthfirst.service.SearchModelService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * Bulk maintenance of the search read model. Row-by-row upkeep happens in the writing
+ * transactions themselves; this rebuilds the table in two set-based statements and drops
+ * slots whose day has passed.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SearchModelServiceImpl implements SearchModelService {
+
+    private final AvailabilitySearchRepository availabilitySearchRepository;
+    private final AvailabilityRepository availabilityRepository;
+
+    @Override
+    @Transactional
+    public int rebuild() {
+        availabilitySearchRepository.deleteAllInBatch();
+        int rows = availabilitySearchRepository.insertFromAvailability(AvailabilityStatus.AVAILABLE, LocalDate.now());
+        log.info("Rebuilt availability search model with {} rows", rows);
+        return rows;
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(fixedDelayString = "${availability.index.prune-interval-ms:3600000}")
+    public int purgeExpired() {
+        return availabilitySearchRepository.deleteByDateBefore(LocalDate.now());
+    }
+
+    // A database that predates the read model starts with an empty table
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuildIfEmpty() {
+        if (availabilitySearchRepository.count() == 0 && availabilityRepository.count() > 0) {
+            rebuild();
+        }
+    }
+}
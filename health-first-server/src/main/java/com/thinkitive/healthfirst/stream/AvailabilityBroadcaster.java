@@ -0,0 +1,369 @@
+package com.thinkitive.healthfirst.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thinkitive.healthfirst.dto.response.AvailabilityChangeDto;
+import com.thinkitive.healthfirst.dto.response.AvailabilityResponseDto;
+import com.thinkitive.healthfirst.event.AvailabilityChangeEvent;
+import com.thinkitive.healthfirst.exception.BadRequestException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans committed availability changes out to SSE subscribers. Publishing never blocks:
+ * each subscriber has a bounded queue drained by a shared sender pool, and a subscriber
+ * whose queue overflows is disconnected instead of slowing anyone else down.
+ * <p>
+ * Servlet output is blocking, so a client that stops reading pins a sender thread inside its
+ * write until the container's socket timeout gives up. A write still in progress after
+ * {@code write-timeout-ms} drops that subscriber, and the pool gets a replacement thread for as
+ * long as the write stays stuck, so the other subscribers keep their full sender capacity.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AvailabilityBroadcaster {
+
+    private static final int IDLE = 0;
+    private static final int WRITING = 1;
+    private static final int STALLED = 2;
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${availability.stream.buffer-size:64}")
+    private int bufferSize;
+
+    @Value("${availability.stream.sender-threads:16}")
+    private int senderThreads;
+
+    @Value("${availability.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${availability.stream.write-timeout-ms:5000}")
+    private long writeTimeoutMs;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, Set<Subscriber>> byProvider = new ConcurrentHashMap<>();
+    private final Map<String, Set<Subscriber>> bySpecialization = new ConcurrentHashMap<>();
+    private final Map<String, Set<Subscriber>> byCity = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private ThreadPoolExecutor senderPool;
+    private int stalledWrites;
+
+    @PostConstruct
+    void init() {
+        senderPool = new ThreadPoolExecutor(senderThreads, senderThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "sse-sender");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.close(null));
+        senderPool.shutdownNow();
+    }
+
+    public SseEmitter subscribe(UUID providerId, String specialization, String city) {
+        if (providerId == null && isBlank(specialization) && isBlank(city)) {
+            throw new BadRequestException("At least one of providerId, specialization or city is required");
+        }
+
+        Subscriber subscriber = new Subscriber(new SseEmitter(timeoutMs), providerId,
+                normalize(specialization), normalize(city));
+        subscriber.emitter.onCompletion(() -> remove(subscriber));
+        subscriber.emitter.onTimeout(() -> remove(subscriber));
+        subscriber.emitter.onError(ex -> remove(subscriber));
+
+        subscribers.add(subscriber);
+        index(subscriber);
+        return subscriber.emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * An update that moves a row to another city reaches subscribers of both cities: those of
+     * the old one need it to drop the row. Each subscriber sits in a single bucket, so no one
+     * is reached twice.
+     */
+    @TransactionalEventListener
+    public void onAvailabilityChange(AvailabilityChangeEvent event) {
+        AvailabilityResponseDto availability = event.getAvailability();
+        Target target = Target.of(event.getProviderId(), availability);
+        Target previous = event.getPrevious() != null ? Target.of(event.getProviderId(), event.getPrevious()) : target;
+
+        Message message;
+        try {
+            // serialized once, shared by every recipient
+            message = new Message(sequence.incrementAndGet(), event.getType().name(),
+                    objectMapper.writeValueAsString(AvailabilityChangeDto.builder()
+                            .type(event.getType())
+                            .availabilityId(event.getAvailabilityId())
+                            .providerId(event.getProviderId())
+                            .availability(availability)
+                            .build()));
+        } catch (JsonProcessingException ex) {
+            log.error("Could not serialize availability change {}", event.getAvailabilityId(), ex);
+            return;
+        }
+
+        deliver(byProvider.get(event.getProviderId()), message, target, previous);
+        deliver(bucket(bySpecialization, target.specialization()), message, target, previous);
+        deliver(bucket(byCity, target.city()), message, target, previous);
+        if (!Objects.equals(previous.specialization(), target.specialization())) {
+            deliver(bucket(bySpecialization, previous.specialization()), message, target, previous);
+        }
+        if (!Objects.equals(previous.city(), target.city())) {
+            deliver(bucket(byCity, previous.city()), message, target, previous);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${availability.stream.heartbeat-ms:30000}")
+    public void heartbeat() {
+        Message ping = new Message(0L, null, null);
+        subscribers.forEach(subscriber -> subscriber.offer(ping));
+    }
+
+    @Scheduled(fixedDelayString = "${availability.stream.write-check-ms:1000}")
+    public void dropStalledSubscribers() {
+        long now = System.nanoTime();
+        subscribers.forEach(subscriber -> subscriber.expireWrite(now));
+    }
+
+    private void deliver(Set<Subscriber> candidates, Message message, Target target, Target previous) {
+        if (candidates == null) {
+            return;
+        }
+        for (Subscriber subscriber : candidates) {
+            if (subscriber.matches(target) || subscriber.matches(previous)) {
+                subscriber.offer(message);
+            }
+        }
+    }
+
+    private static Set<Subscriber> bucket(Map<String, Set<Subscriber>> buckets, String key) {
+        return key != null ? buckets.get(key) : null;
+    }
+
+    private void index(Subscriber subscriber) {
+        // each subscriber is indexed under its most selective filter only, so it is reached at most once
+        if (subscriber.providerId != null) {
+            addTo(byProvider, subscriber.providerId, subscriber);
+        } else if (subscriber.specialization != null) {
+            addTo(bySpecialization, subscriber.specialization, subscriber);
+        } else {
+            addTo(byCity, subscriber.city, subscriber);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriber.closed = true;
+            if (subscriber.providerId != null) {
+                removeFrom(byProvider, subscriber.providerId, subscriber);
+            } else if (subscriber.specialization != null) {
+                removeFrom(bySpecialization, subscriber.specialization, subscriber);
+            } else {
+                removeFrom(byCity, subscriber.city, subscriber);
+            }
+        }
+    }
+
+    // Adds under the map's lock for the key, so it cannot land in a bucket that removeFrom is dropping
+    private static <K> void addTo(Map<K, Set<Subscriber>> buckets, K key, Subscriber subscriber) {
+        buckets.compute(key, (k, bucket) -> {
+            Set<Subscriber> members = bucket != null ? bucket : ConcurrentHashMap.newKeySet();
+            members.add(subscriber);
+            return members;
+        });
+    }
+
+    // Drops the bucket once empty: city and specialization keys come from clients and would pile up
+    private static <K> void removeFrom(Map<K, Set<Subscriber>> buckets, K key, Subscriber subscriber) {
+        buckets.computeIfPresent(key, (k, bucket) -> {
+            bucket.remove(subscriber);
+            return bucket.isEmpty() ? null : bucket;
+        });
+    }
+
+    /**
+     * Sizes the sender pool to its configured threads plus one per write stuck past its deadline,
+     * at most doubling it so that a mass of dead clients cannot create unbounded threads.
+     */
+    private void adjustSenders(int stalledDelta) {
+        synchronized (senderPool) {
+            stalledWrites += stalledDelta;
+            int size = senderThreads + Math.max(0, Math.min(stalledWrites, senderThreads));
+            if (size > senderPool.getMaximumPoolSize()) {
+                senderPool.setMaximumPoolSize(size);
+                senderPool.setCorePoolSize(size);
+            } else {
+                senderPool.setCorePoolSize(size);
+                senderPool.setMaximumPoolSize(size);
+            }
+        }
+    }
+
+    private static String cityOf(AvailabilityResponseDto availability) {
+        return availability.getLocation() != null && availability.getLocation().getAddress() != null
+                ? availability.getLocation().getAddress().getCity() : null;
+    }
+
+    private static String normalize(String value) {
+        return isBlank(value) ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    // The keys a change is routed by, normalized like the subscribers' filters
+    private record Target(UUID providerId, String specialization, String city) {
+
+        static Target of(UUID providerId, AvailabilityResponseDto availability) {
+            return availability != null
+                    ? new Target(providerId, normalize(availability.getSpecialization()), normalize(cityOf(availability)))
+                    : new Target(providerId, null, null);
+        }
+    }
+
+    private record Message(long id, String name, String data) {
+
+        SseEmitter.SseEventBuilder toEvent() {
+            if (name == null) {
+                return SseEmitter.event().comment("ping");
+            }
+            return SseEmitter.event().id(Long.toString(id)).name(name).data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final UUID providerId;
+        private final String specialization;
+        private final String city;
+        private final ArrayBlockingQueue<Message> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicInteger writeState = new AtomicInteger(IDLE);
+        private volatile long writeDeadline;
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, UUID providerId, String specialization, String city) {
+            this.emitter = emitter;
+            this.providerId = providerId;
+            this.specialization = specialization;
+            this.city = city;
+        }
+
+        boolean matches(Target changed) {
+            return (providerId == null || providerId.equals(changed.providerId()))
+                    && (specialization == null || specialization.equals(changed.specialization()))
+                    && (city == null || city.equals(changed.city()));
+        }
+
+        void offer(Message message) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(message)) {
+                log.debug("Dropping slow availability stream subscriber");
+                close(null);
+                return;
+            }
+            scheduleDrain();
+        }
+
+        void close(Throwable cause) {
+            remove(this);
+            queue.clear();
+            try {
+                if (cause != null) {
+                    emitter.completeWithError(cause);
+                } else {
+                    emitter.complete();
+                }
+            } catch (RuntimeException ignored) {
+                // already completed by the container
+            }
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                senderPool.execute(this::drain);
+            }
+        }
+
+        /**
+         * Called by the watchdog: a write past its deadline drops the subscriber right away. The
+         * emitter itself is completed by the sender thread once the write returns, since the emitter
+         * stays locked for the duration of the write.
+         */
+        void expireWrite(long now) {
+            if (writeState.get() == WRITING && now - writeDeadline > 0 && writeState.compareAndSet(WRITING, STALLED)) {
+                log.debug("Dropping availability stream subscriber stuck in a write for over {} ms", writeTimeoutMs);
+                remove(this);
+                queue.clear();
+                adjustSenders(1);
+            }
+        }
+
+        private void drain() {
+            Throwable failure = null;
+            boolean stalled = false;
+            try {
+                Message message;
+                while (!stalled && !closed && (message = queue.poll()) != null) {
+                    writeDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(writeTimeoutMs);
+                    writeState.set(WRITING);
+                    try {
+                        emitter.send(message.toEvent());
+                    } finally {
+                        stalled = !writeState.compareAndSet(WRITING, IDLE);
+                    }
+                }
+            } catch (IOException | IllegalStateException ex) {
+                failure = ex;
+            } finally {
+                if (stalled) {
+                    adjustSenders(-1);
+                }
+                draining.set(false);
+            }
+
+            if (failure != null || stalled) {
+                close(failure);
+            } else if (!closed && !queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.thinkitive.healthfirst.cache;
+
+import com.thinkitive.healthfirst.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConditionalGetSupportTest {
+
+    private final ResourceVersionTracker versionTracker = new ResourceVersionTracker();
+    private final ConditionalGetSupport conditionalGet = new ConditionalGetSupport(versionTracker);
+    private final UUID providerId = UUID.randomUUID();
+    private final AtomicInteger handlerCalls = new AtomicInteger();
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void bindRequest() {
+        request = new MockHttpServletRequest("GET", "/api/providers/" + providerId);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void unbindRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void matchingEtagIsAnswered304WithoutRunningTheHandler() {
+        String etag = respond().getHeaders().getETag();
+        assertThat(etag).isNotNull();
+
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other\", W/" + etag);
+        ResponseEntity<String> response = respond();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo(etag);
+        assertThat(handlerCalls).hasValue(1);
+    }
+
+    @Test
+    void writeInvalidatesTheEtagImmediately() {
+        String etag = respond().getHeaders().getETag();
+        versionTracker.bump(VersionedResource.PROVIDER, providerId);
+
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        ResponseEntity<String> response = respond();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isNotEqualTo(etag);
+    }
+
+    @Test
+    void errorsPropagateWithoutValidators() {
+        assertThatThrownBy(() -> conditionalGet.respond(VersionedResource.PROVIDER, providerId, () -> {
+            throw new ResourceNotFoundException("Provider", "id", providerId);
+        })).isInstanceOf(ResourceNotFoundException.class);
+
+        ResponseEntity<String> forbidden = conditionalGet.respond(VersionedResource.PROVIDER, providerId,
+                () -> ResponseEntity.status(HttpStatus.FORBIDDEN).build());
+        assertThat(forbidden.getHeaders().getETag()).isNull();
+    }
+
+    @Test
+    void handlerRunsPlainlyOutsideAServletRequest() {
+        RequestContextHolder.resetRequestAttributes();
+
+        ResponseEntity<String> response = respond();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isNull();
+    }
+
+    private ResponseEntity<String> respond() {
+        return conditionalGet.respond(VersionedResource.PROVIDER, providerId, () -> {
+            handlerCalls.incrementAndGet();
+            return ResponseEntity.ok("provider");
+        });
+    }
+}
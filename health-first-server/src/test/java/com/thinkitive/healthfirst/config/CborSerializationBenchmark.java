@@ -0,0 +1,81 @@
+package com.thinkitive.healthfirst.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.thinkitive.healthfirst.dto.response.ApiResponse;
+import com.thinkitive.healthfirst.dto.response.AvailabilityResponseDto;
+import com.thinkitive.healthfirst.support.AvailabilityFixtures;
+import com.thinkitive.healthfirst.support.Benchmarks;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON versus CBOR for an availability list response, with mappers built the way
+ * {@link WebMvcConfig} builds them: encode and decode time, and (printed at setup) the
+ * encoded size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CborSerializationBenchmark {
+
+    private static final TypeReference<ApiResponse<List<AvailabilityResponseDto>>> RESPONSE = new TypeReference<>() {
+    };
+
+    @Param({"50", "500"})
+    private int slots;
+
+    private ObjectMapper json;
+    private ObjectMapper cbor;
+    private ApiResponse<List<AvailabilityResponseDto>> response;
+    private byte[] jsonBytes;
+    private byte[] cborBytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        json = AvailabilityFixtures.objectMapper();
+        cbor = AvailabilityFixtures.jsonBuilder().createXmlMapper(false).factory(new CBORFactory()).build();
+        response = ApiResponse.success("Availabilities retrieved successfully",
+                AvailabilityFixtures.schedule(slots, 8, 42));
+        jsonBytes = json.writeValueAsBytes(response);
+        cborBytes = cbor.writeValueAsBytes(response);
+        System.out.printf("%n%d slots: JSON %d B, CBOR %d B%n", slots, jsonBytes.length, cborBytes.length);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws IOException {
+        return json.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] encodeCbor() throws IOException {
+        return cbor.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public Object decodeJson() throws IOException {
+        return json.readValue(jsonBytes, RESPONSE);
+    }
+
+    @Benchmark
+    public Object decodeCbor() throws IOException {
+        return cbor.readValue(cborBytes, RESPONSE);
+    }
+
+    @Test
+    void run() throws Exception {
+        Benchmarks.run(getClass());
+    }
+}
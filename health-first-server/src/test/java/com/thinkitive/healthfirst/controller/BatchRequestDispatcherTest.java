@@ -0,0 +1,67 @@
+package com.thinkitive.healthfirst.controller;
+
+import com.thinkitive.healthfirst.dto.request.BatchOperationDto;
+import com.thinkitive.healthfirst.dto.response.ApiResponse;
+import com.thinkitive.healthfirst.dto.response.BatchResponseDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BatchRequestDispatcherTest {
+
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void itemsRejectedByAFullPoolAreAnswered503WhileTheRestOfTheBatchRuns() {
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.initialize();
+
+        CountDownLatch release = new CountDownLatch(1);
+        ProviderController providerController = mock(ProviderController.class);
+        when(providerController.getProviderById(any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return ResponseEntity.ok(ApiResponse.success(null));
+        });
+        BatchRequestDispatcher dispatcher = new BatchRequestDispatcher(executor, providerController,
+                mock(PatientController.class), mock(ProviderAvailabilityController.class));
+        ReflectionTestUtils.setField(dispatcher, "timeoutMs", 5000L);
+
+        // one item running, one queued, the rest rejected
+        List<BatchOperationDto> operations = IntStream.range(0, 4)
+                .mapToObj(i -> BatchOperationDto.builder().id("op" + i).path("/api/providers/" + UUID.randomUUID()).build())
+                .toList();
+        new Thread(() -> {
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+            release.countDown();
+        }).start();
+
+        List<BatchResponseDto> results = dispatcher.dispatch(operations);
+
+        assertThat(results).extracting(BatchResponseDto::getId).containsExactly("op0", "op1", "op2", "op3");
+        assertThat(results).extracting(BatchResponseDto::getStatus).containsExactly(200, 200, 503, 503);
+    }
+}
@@ -0,0 +1,72 @@
+package com.thinkitive.healthfirst.dto.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thinkitive.healthfirst.support.AvailabilityFixtures;
+import com.thinkitive.healthfirst.support.Benchmarks;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Standard versus compact provider availability lists: time to map and serialize a
+ * response, and (printed at setup) the payload size raw and gzipped. The fixture fills every
+ * field the compact form carries, UTC instants and years of experience included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CompactAvailabilityListBenchmark {
+
+    @Param({"50", "500"})
+    private int slots;
+
+    private ObjectMapper objectMapper;
+    private List<AvailabilityResponseDto> availabilities;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = AvailabilityFixtures.objectMapper();
+        availabilities = AvailabilityFixtures.schedule(slots, 1, 42);
+        byte[] standard = standard();
+        byte[] compact = compact();
+        System.out.printf("%n%d slots: standard %d B (%d B gzip), compact %d B (%d B gzip)%n",
+                slots, standard.length, gzip(standard), compact.length, gzip(compact));
+    }
+
+    @Benchmark
+    public byte[] standard() throws IOException {
+        return objectMapper.writeValueAsBytes(ApiResponse.success("Provider availability retrieved successfully",
+                availabilities));
+    }
+
+    @Benchmark
+    public byte[] compact() throws IOException {
+        return objectMapper.writeValueAsBytes(ApiResponse.success("Provider availability retrieved successfully",
+                CompactAvailabilityListDto.from(availabilities)));
+    }
+
+    private static int gzip(byte[] payload) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(payload);
+        }
+        return compressed.size();
+    }
+
+    @Test
+    void run() throws Exception {
+        Benchmarks.run(getClass());
+    }
+}
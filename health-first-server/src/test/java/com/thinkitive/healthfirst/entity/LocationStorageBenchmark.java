@@ -0,0 +1,240 @@
+package com.thinkitive.healthfirst.entity;
+
+import com.thinkitive.healthfirst.support.Benchmarks;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Availability rows with the location embedded in every row, as before the locations table,
+ * against rows pointing at one shared row per place. The compacted file size of each layout
+ * is printed at setup; the benchmarks run the SQL of the state search and of a start-time
+ * page, each returning the location fields, against the same rows in an in-memory database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LocationStorageBenchmark {
+
+    private static final int LOCATIONS = 500;
+    private static final int BATCH_SIZE = 1000;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2027, 1, 4);
+    private static final String[] STATES = {"MA", "IL", "CO", "WA", "TX", "NY", "CA", "FL"};
+    private static final String LOCATION_COLUMNS =
+            "type, street, city, state, zip_code, country, latitude, longitude, room_number";
+
+    public enum Layout {
+        EMBEDDED, SHARED
+    }
+
+    @Param({"EMBEDDED", "SHARED"})
+    private Layout layout;
+
+    @Param({"200000"})
+    private int rows;
+
+    private Connection connection;
+    private PreparedStatement stateSearch;
+    private PreparedStatement startPage;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException, SQLException {
+        long bytes = compactedFileSize();
+        System.out.printf("%n%s, %d rows over %d places: %d MB compacted (%.1f B/row)%n",
+                layout, rows, LOCATIONS, bytes >> 20, (double) bytes / rows);
+
+        // queried in memory, like the application's database
+        connection = DriverManager.getConnection("jdbc:h2:mem:location-benchmark", "sa", "");
+        createTables();
+        insertRows();
+        String select = layout == Layout.EMBEDDED
+                ? "SELECT a.id, a.date, a.start_time, a.end_time, " + LOCATION_COLUMNS + " FROM availability a "
+                : "SELECT a.id, a.date, a.start_time, a.end_time, l.type, l.street, l.city, l.state, l.zip_code, "
+                        + "l.country, l.latitude, l.longitude, l.room_number "
+                        + "FROM availability a LEFT JOIN locations l ON l.id = a.location_id ";
+        String state = layout == Layout.EMBEDDED ? "a.state" : "l.state";
+        stateSearch = connection.prepareStatement(select
+                + "WHERE a.status = 'AVAILABLE' AND a.date BETWEEN ? AND ? AND LOWER(" + state + ") = LOWER(?)");
+        startPage = connection.prepareStatement(select
+                + "WHERE a.status = 'AVAILABLE' AND a.start_utc >= ? AND a.start_utc < ? ORDER BY a.start_utc LIMIT 50");
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public int searchByState() throws SQLException {
+        int offset = next++ % 60;
+        stateSearch.setDate(1, Date.valueOf(FIRST_DAY.plusDays(offset)));
+        stateSearch.setDate(2, Date.valueOf(FIRST_DAY.plusDays(offset + 6)));
+        stateSearch.setString(3, STATES[offset % STATES.length]);
+        return consume(stateSearch);
+    }
+
+    @Benchmark
+    public int pageByStart() throws SQLException {
+        LocalDate day = FIRST_DAY.plusDays(next++ % 60);
+        startPage.setTimestamp(1, Timestamp.valueOf(day.atStartOfDay()));
+        startPage.setTimestamp(2, Timestamp.valueOf(day.plusDays(1).atStartOfDay()));
+        return consume(startPage);
+    }
+
+    private static int consume(PreparedStatement query) throws SQLException {
+        int hash = 0;
+        try (ResultSet resultSet = query.executeQuery()) {
+            int columns = resultSet.getMetaData().getColumnCount();
+            while (resultSet.next()) {
+                for (int i = 1; i <= columns; i++) {
+                    Object value = resultSet.getObject(i);
+                    hash += value != null ? value.hashCode() : 0;
+                }
+            }
+        }
+        return hash;
+    }
+
+    private long compactedFileSize() throws IOException, SQLException {
+        Path directory = Files.createTempDirectory("location-benchmark");
+        Path file = directory.resolve("db.mv.db");
+        connection = DriverManager.getConnection("jdbc:h2:file:" + directory.resolve("db"), "sa", "");
+        createTables();
+        insertRows();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN COMPACT");
+        }
+        connection.close();
+        long bytes = Files.size(file);
+        Files.delete(file);
+        Files.delete(directory);
+        return bytes;
+    }
+
+    private void createTables() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            String location = "type VARCHAR(255), street VARCHAR(255), city VARCHAR(255), state VARCHAR(255), "
+                    + "zip_code VARCHAR(255), country VARCHAR(255), latitude DOUBLE PRECISION, "
+                    + "longitude DOUBLE PRECISION, room_number VARCHAR(255)";
+            String availability = "id BINARY(16) PRIMARY KEY, provider_id BINARY(16) NOT NULL, date DATE NOT NULL, "
+                    + "start_time TIME NOT NULL, end_time TIME NOT NULL, timezone VARCHAR(255) NOT NULL, "
+                    + "start_utc TIMESTAMP, status VARCHAR(255) NOT NULL, slot_duration INTEGER NOT NULL";
+            if (layout == Layout.EMBEDDED) {
+                statement.execute("CREATE TABLE availability (" + availability + ", " + location + ")");
+            } else {
+                statement.execute("CREATE TABLE locations (id BINARY(16) PRIMARY KEY, " + location
+                        + ", fingerprint VARCHAR(64) NOT NULL)");
+                statement.execute("CREATE UNIQUE INDEX idx_locations_fingerprint ON locations (fingerprint)");
+                statement.execute("CREATE INDEX idx_locations_city_state_zip ON locations (city, state, zip_code)");
+                statement.execute("CREATE TABLE availability (" + availability + ", location_id BINARY(16))");
+                statement.execute("CREATE INDEX idx_availability_location ON availability (location_id)");
+            }
+            statement.execute("CREATE INDEX idx_availability_status_start_utc ON availability (status, start_utc)");
+        }
+    }
+
+    private void insertRows() throws SQLException {
+        connection.setAutoCommit(false);
+        Object[][] places = new Object[LOCATIONS][];
+        byte[][] placeIds = new byte[LOCATIONS][];
+        Random random = new Random(42);
+        for (int i = 0; i < LOCATIONS; i++) {
+            String state = STATES[i % STATES.length];
+            places[i] = new Object[] {"CLINIC", (100 + i) + " Medical Center Drive, Suite " + (200 + i % 40),
+                    "City" + i / STATES.length, state, String.format("%05d", 10000 + i * 17), "United States",
+                    25 + random.nextDouble() * 24, -124 + random.nextDouble() * 57, "Room " + (100 + i % 30)};
+            placeIds[i] = toBytes(UuidV7Generator.next());
+        }
+        if (layout == Layout.SHARED) {
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO locations (id, "
+                    + LOCATION_COLUMNS + ", fingerprint) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+                for (int i = 0; i < LOCATIONS; i++) {
+                    insert.setBytes(1, placeIds[i]);
+                    for (int column = 0; column < places[i].length; column++) {
+                        insert.setObject(column + 2, places[i][column]);
+                    }
+                    insert.setString(11, String.format("%064x", i));
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        }
+
+        String columns = "id, provider_id, date, start_time, end_time, timezone, start_utc, status, slot_duration, "
+                + (layout == Layout.EMBEDDED ? LOCATION_COLUMNS : "location_id");
+        int parameters = layout == Layout.EMBEDDED ? 18 : 10;
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO availability (" + columns
+                + ") VALUES (" + "?, ".repeat(parameters - 1) + "?)")) {
+            for (int i = 1; i <= rows; i++) {
+                int place = random.nextInt(LOCATIONS);
+                LocalDate date = FIRST_DAY.plusDays(random.nextInt(90));
+                LocalTime start = LocalTime.of(8 + random.nextInt(9), random.nextBoolean() ? 0 : 30);
+                insert.setBytes(1, toBytes(UuidV7Generator.next()));
+                insert.setBytes(2, toBytes(new UUID(0, place / 5)));
+                insert.setDate(3, Date.valueOf(date));
+                insert.setTime(4, Time.valueOf(start));
+                insert.setTime(5, Time.valueOf(start.plusMinutes(30)));
+                insert.setString(6, "America/New_York");
+                insert.setTimestamp(7, Timestamp.valueOf(date.atTime(start)));
+                insert.setString(8, random.nextInt(10) < 8 ? "AVAILABLE" : "BOOKED");
+                insert.setInt(9, 30);
+                if (layout == Layout.EMBEDDED) {
+                    for (int column = 0; column < places[place].length; column++) {
+                        insert.setObject(column + 10, places[place][column]);
+                    }
+                } else {
+                    insert.setBytes(10, placeIds[place]);
+                }
+                insert.addBatch();
+                if (i % BATCH_SIZE == 0 || i == rows) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+        }
+        connection.setAutoCommit(true);
+    }
+
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+
+    @Test
+    void run() throws Exception {
+        Benchmarks.run(Benchmarks.options(getClass())
+                .param("rows", System.getProperty("benchmark.rows", "200000")));
+    }
+}
@@ -0,0 +1,121 @@
+package com.thinkitive.healthfirst.entity;
+
+import com.thinkitive.healthfirst.support.Benchmarks;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk insert into an H2 file table keyed like {@link BaseEntity} (BINARY(16) primary key),
+ * random version 4 ids against time-ordered version 7 ids. One shot per key type; the file
+ * size is printed after each run, before and after compaction. The row count defaults to one
+ * million; pass {@code -Dbenchmark.rows=10000000} for the full-size run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UuidPrimaryKeyBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    public enum KeyType {
+        V4, V7;
+
+        UUID next() {
+            return this == V4 ? UUID.randomUUID() : UuidV7Generator.next();
+        }
+    }
+
+    @Param({"V4", "V7"})
+    private KeyType keyType;
+
+    @Param({"1000000"})
+    private int rows;
+
+    private Path directory;
+    private Connection connection;
+
+    @Setup(Level.Iteration)
+    public void createTable() throws IOException, SQLException {
+        directory = Files.createTempDirectory("uuid-benchmark");
+        connection = DriverManager.getConnection("jdbc:h2:file:" + directory.resolve("db"), "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE rows_by_id (id BINARY(16) PRIMARY KEY, created_at TIMESTAMP NOT NULL, "
+                    + "payload VARCHAR(64) NOT NULL)");
+        }
+        connection.setAutoCommit(false);
+    }
+
+    // Compacting drops pages that were rewritten and leaves the live ones as filled as the inserts left them
+    @TearDown(Level.Iteration)
+    public void reportSize() throws IOException, SQLException {
+        Path file = directory.resolve("db.mv.db");
+        long written = Files.size(file);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN COMPACT");
+        }
+        connection.close();
+        long live = Files.size(file);
+        System.out.printf("%n%s, %d rows: file %d MB after the inserts, %d MB compacted (%.1f B/row)%n",
+                keyType, rows, written >> 20, live >> 20, (double) live / rows);
+        Files.delete(file);
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public void insert() throws SQLException {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO rows_by_id (id, created_at, payload) VALUES (?, ?, ?)")) {
+            for (int i = 1; i <= rows; i++) {
+                insert.setBytes(1, toBytes(keyType.next()));
+                insert.setTimestamp(2, now);
+                insert.setString(3, "availability-" + i);
+                insert.addBatch();
+                if (i % BATCH_SIZE == 0 || i == rows) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+        }
+    }
+
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+
+    @Test
+    void run() throws Exception {
+        Benchmarks.run(Benchmarks.options(getClass())
+                .param("rows", System.getProperty("benchmark.rows", "1000000"))
+                .warmupIterations(0)
+                .measurementIterations(1)
+                // ten million random keys take longer than the default ten minutes
+                .timeout(TimeValue.minutes(60)));
+    }
+}
@@ -0,0 +1,201 @@
+package com.thinkitive.healthfirst.grpc;
+
+import com.thinkitive.healthfirst.HealthFirstApplication;
+import com.thinkitive.healthfirst.dto.request.AvailabilityRequestDto;
+import com.thinkitive.healthfirst.dto.request.PatientRegistrationDto;
+import com.thinkitive.healthfirst.dto.request.ProviderRegistrationDto;
+import com.thinkitive.healthfirst.dto.request.UserRegistrationDto;
+import com.thinkitive.healthfirst.entity.AppointmentType;
+import com.thinkitive.healthfirst.entity.Gender;
+import com.thinkitive.healthfirst.grpc.v1.Availability;
+import com.thinkitive.healthfirst.grpc.v1.GetProviderRequest;
+import com.thinkitive.healthfirst.grpc.v1.Provider;
+import com.thinkitive.healthfirst.grpc.v1.SchedulingServiceGrpc;
+import com.thinkitive.healthfirst.grpc.v1.SearchAvailabilityRequest;
+import com.thinkitive.healthfirst.security.CustomUserDetailsService;
+import com.thinkitive.healthfirst.security.JwtTokenProvider;
+import com.thinkitive.healthfirst.service.AuthService;
+import com.thinkitive.healthfirst.service.AvailabilityService;
+import com.thinkitive.healthfirst.support.Benchmarks;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import io.grpc.stub.MetadataUtils;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client round trips against a running server, gRPC next to the equivalent REST call: one
+ * provider lookup and one availability search over the seeded window, both as a patient.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SchedulingGrpcBenchmark {
+
+    @Param({"50", "500"})
+    private int slots;
+
+    private ConfigurableApplicationContext context;
+    private ManagedChannel channel;
+    private SchedulingServiceGrpc.SchedulingServiceBlockingStub stub;
+    private HttpClient http;
+    private HttpRequest providerRequest;
+    private HttpRequest searchRequest;
+    private String providerId;
+    private SearchAvailabilityRequest search;
+
+    @Setup
+    public void setUp() throws IOException {
+        int grpcPort = freePort();
+        // devtools would otherwise restart the app in its own class loader and turn on web debug logging
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        context = new SpringApplicationBuilder(HealthFirstApplication.class).run(
+                "--server.port=0",
+                "--grpc.server.port=" + grpcPort,
+                "--spring.datasource.url=jdbc:h2:mem:grpc-benchmark",
+                "--spring.jpa.show-sql=false",
+                "--spring.devtools.add-properties=false",
+                "--logging.level.root=WARN",
+                "--logging.level.org.springframework.security=WARN",
+                "--logging.level.com.thinkitive.healthfirst=WARN");
+
+        providerId = seedProvider().toString();
+        String token = patientToken();
+        LocalDate start = LocalDate.now().plusDays(1);
+        LocalDate end = start.plusDays((slots + 1) / 2 - 1);
+
+        Metadata headers = new Metadata();
+        headers.put(Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER), "Bearer " + token);
+        channel = NettyChannelBuilder.forAddress("localhost", grpcPort).usePlaintext().build();
+        stub = SchedulingServiceGrpc.newBlockingStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
+        search = SearchAvailabilityRequest.newBuilder()
+                .setStartEpochDay(start.toEpochDay())
+                .setEndEpochDay(end.toEpochDay())
+                .build();
+
+        String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        providerRequest = HttpRequest.newBuilder(URI.create(baseUrl + "/api/providers/" + providerId))
+                .header("Authorization", "Bearer " + token)
+                .build();
+        searchRequest = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/availability/search?startDate=" + start
+                        + "&endDate=" + end))
+                .header("Authorization", "Bearer " + token)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        context.close();
+    }
+
+    @Benchmark
+    public Provider getProviderGrpc() {
+        return stub.getProvider(GetProviderRequest.newBuilder().setProviderId(providerId).build());
+    }
+
+    @Benchmark
+    public byte[] getProviderRest() throws IOException, InterruptedException {
+        return http.send(providerRequest, HttpResponse.BodyHandlers.ofByteArray()).body();
+    }
+
+    @Benchmark
+    public int searchGrpc() {
+        int count = 0;
+        for (Iterator<Availability> it = stub.searchAvailability(search); it.hasNext(); it.next()) {
+            count++;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public byte[] searchRest() throws IOException, InterruptedException {
+        return http.send(searchRequest, HttpResponse.BodyHandlers.ofByteArray()).body();
+    }
+
+    private UUID seedProvider() {
+        UUID id = context.getBean(AuthService.class).registerProvider(ProviderRegistrationDto.builder()
+                .user(user("provider@benchmark.test", "+15550000001"))
+                .firstName("Bench")
+                .lastName("Provider")
+                .specialization("Cardiology")
+                .licenseNumber("BENCH-1")
+                .yearsOfExperience(10)
+                .build()).getId();
+
+        AvailabilityService availabilityService = context.getBean(AvailabilityService.class);
+        LocalDate day = LocalDate.now().plusDays(1);
+        for (int i = 0; i < slots; i++) {
+            LocalTime startTime = i % 2 == 0 ? LocalTime.of(9, 0) : LocalTime.of(14, 0);
+            availabilityService.createAvailability(id, AvailabilityRequestDto.builder()
+                    .date(day.plusDays(i / 2))
+                    .startTime(startTime)
+                    .endTime(startTime.plusHours(3))
+                    .timezone("America/New_York")
+                    .slotDuration(30)
+                    .breakDuration(0)
+                    .maxAppointmentsPerSlot(1)
+                    .isRecurring(false)
+                    .appointmentType(AppointmentType.CONSULTATION)
+                    .build());
+        }
+        return id;
+    }
+
+    private String patientToken() {
+        context.getBean(AuthService.class).registerPatient(PatientRegistrationDto.builder()
+                .user(user("patient@benchmark.test", "+15550000002"))
+                .firstName("Bench")
+                .lastName("Patient")
+                .dateOfBirth(LocalDate.of(1990, 1, 1))
+                .gender(Gender.OTHER)
+                .build());
+        return context.getBean(JwtTokenProvider.class).generateToken(
+                context.getBean(CustomUserDetailsService.class).loadUserByUsername("patient@benchmark.test"));
+    }
+
+    private static UserRegistrationDto user(String email, String phoneNumber) {
+        return UserRegistrationDto.builder()
+                .email(email)
+                .phoneNumber(phoneNumber)
+                .password("Benchmark@123")
+                .build();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    @Test
+    void run() throws Exception {
+        // JIT compilation of the whole request path competes with the calls for a long while
+        Benchmarks.run(Benchmarks.options(getClass()).warmupIterations(20));
+    }
+}
@@ -0,0 +1,55 @@
+package com.thinkitive.healthfirst.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AvailabilityTimesTest {
+
+    private static final String NEW_YORK = "America/New_York";
+    private static final LocalDate SPRING_FORWARD = LocalDate.of(2027, 3, 14);
+    private static final LocalDate FALL_BACK = LocalDate.of(2027, 11, 7);
+
+    @Test
+    void timeInTheSpringGapMovesForwardByTheGap() {
+        // 02:30 does not exist that night; it is read as 03:30 EDT
+        assertThat(AvailabilityTimes.toInstant(SPRING_FORWARD, LocalTime.of(2, 30), NEW_YORK))
+                .isEqualTo(Instant.parse("2027-03-14T07:30:00Z"))
+                .isEqualTo(AvailabilityTimes.toInstant(SPRING_FORWARD, LocalTime.of(3, 30), NEW_YORK));
+    }
+
+    @Test
+    void timesAroundTheSpringGapKeepTheirOwnOffset() {
+        assertThat(AvailabilityTimes.toInstant(SPRING_FORWARD, LocalTime.of(1, 59), NEW_YORK))
+                .isEqualTo(Instant.parse("2027-03-14T06:59:00Z"));
+        assertThat(AvailabilityTimes.toInstant(SPRING_FORWARD, LocalTime.of(3, 0), NEW_YORK))
+                .isEqualTo(Instant.parse("2027-03-14T07:00:00Z"));
+    }
+
+    @Test
+    void timeInTheFallOverlapTakesTheEarlierOffset() {
+        // 01:30 happens twice that night; the first one, still EDT, is used
+        assertThat(AvailabilityTimes.toInstant(FALL_BACK, LocalTime.of(1, 30), NEW_YORK))
+                .isEqualTo(Instant.parse("2027-11-07T05:30:00Z"));
+    }
+
+    @Test
+    void timesAroundTheFallOverlapKeepTheirOwnOffset() {
+        assertThat(AvailabilityTimes.toInstant(FALL_BACK, LocalTime.of(0, 30), NEW_YORK))
+                .isEqualTo(Instant.parse("2027-11-07T04:30:00Z"));
+        assertThat(AvailabilityTimes.toInstant(FALL_BACK, LocalTime.of(2, 0), NEW_YORK))
+                .isEqualTo(Instant.parse("2027-11-07T07:00:00Z"));
+    }
+
+    @Test
+    void unknownOrMissingZoneIsTreatedAsUtc() {
+        assertThat(AvailabilityTimes.toInstant(FALL_BACK, LocalTime.of(1, 30), "Mars/Olympus_Mons"))
+                .isEqualTo(Instant.parse("2027-11-07T01:30:00Z"));
+        assertThat(AvailabilityTimes.toInstant(FALL_BACK, LocalTime.of(1, 30), null))
+                .isEqualTo(Instant.parse("2027-11-07T01:30:00Z"));
+    }
+}
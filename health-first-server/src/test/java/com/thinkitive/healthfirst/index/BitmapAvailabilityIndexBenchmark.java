@@ -0,0 +1,67 @@
+package com.thinkitive.healthfirst.index;
+
+import com.thinkitive.healthfirst.dto.response.AvailabilityResponseDto;
+import com.thinkitive.healthfirst.entity.AvailabilityStatus;
+import com.thinkitive.healthfirst.support.AvailabilityFixtures;
+import com.thinkitive.healthfirst.support.Benchmarks;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-row writes into a loaded index: a booking that leaves the row's keys alone, and
+ * one that fills the row and so moves it from the AVAILABLE to the BOOKED bitmap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BitmapAvailabilityIndexBenchmark {
+
+    @Param({"10000", "100000"})
+    private int slots;
+
+    private BitmapAvailabilityIndex index;
+    private List<AvailabilityResponseDto> availabilities;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        availabilities = AvailabilityFixtures.schedule(slots, 50, 42);
+        index = new BitmapAvailabilityIndex();
+        index.upsertAll(availabilities);
+    }
+
+    @Benchmark
+    public void bookingCount() {
+        AvailabilityResponseDto availability = nextAvailability();
+        availability.setCurrentAppointments(availability.getCurrentAppointments() == 0 ? 1 : 0);
+        index.upsert(availability);
+    }
+
+    @Benchmark
+    public void statusChange() {
+        AvailabilityResponseDto availability = nextAvailability();
+        availability.setStatus(availability.getStatus() == AvailabilityStatus.AVAILABLE
+                ? AvailabilityStatus.BOOKED : AvailabilityStatus.AVAILABLE);
+        index.upsert(availability);
+    }
+
+    private AvailabilityResponseDto nextAvailability() {
+        next = next + 1 == slots ? 0 : next + 1;
+        return availabilities.get(next);
+    }
+
+    @Test
+    void run() throws Exception {
+        Benchmarks.run(getClass());
+    }
+}
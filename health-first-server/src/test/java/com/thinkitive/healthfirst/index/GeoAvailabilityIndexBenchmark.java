@@ -0,0 +1,148 @@
+package com.thinkitive.healthfirst.index;
+
+import com.thinkitive.healthfirst.dto.request.LocationDto;
+import com.thinkitive.healthfirst.dto.response.AvailabilityResponseDto;
+import com.thinkitive.healthfirst.dto.response.NearbyAvailabilityDto;
+import com.thinkitive.healthfirst.support.AvailabilityFixtures;
+import com.thinkitive.healthfirst.support.Benchmarks;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Nearest-k search over open slots at 50,000 locations across the continental US, most of
+ * them clustered around a few dozen metro areas, next to the linear scan the grid replaces.
+ * Each location holds many slots spread over a quarter, and every query asks for one week of
+ * it, as the nearby search filters by date. Queries cycle through points near the metros and
+ * in sparse countryside.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GeoAvailabilityIndexBenchmark {
+
+    private static final int METROS = 40;
+    private static final int LOCATIONS = 50_000;
+    private static final int DAYS = 90;
+    private static final int WINDOW_DAYS = 7;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2027, 1, 4);
+    private static final int QUERIES = 256;
+    private static final double RADIUS_KM = 50;
+    private static final int LIMIT = 10;
+
+    @Param({"100000", "1000000"})
+    private int slots;
+
+    private GeoAvailabilityIndex index;
+    private AvailabilityResponseDto[] availabilities;
+    private double[][] queries;
+    private LocalDate[] windowStarts;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        double[][] metros = new double[METROS][];
+        for (int i = 0; i < METROS; i++) {
+            metros[i] = randomPoint(random);
+        }
+
+        LocationDto[] locations = new LocationDto[LOCATIONS];
+        for (int i = 0; i < LOCATIONS; i++) {
+            double[] point;
+            if (random.nextInt(10) < 8) {
+                double[] metro = metros[random.nextInt(METROS)];
+                point = new double[] {metro[0] + random.nextGaussian() * 0.3, metro[1] + random.nextGaussian() * 0.3};
+            } else {
+                point = randomPoint(random);
+            }
+            locations[i] = AvailabilityFixtures.locationAt(point[0], point[1]);
+        }
+
+        index = new GeoAvailabilityIndex();
+        availabilities = new AvailabilityResponseDto[slots];
+        for (int i = 0; i < slots; i++) {
+            availabilities[i] = AvailabilityFixtures.openSlotAt(i, FIRST_DAY.plusDays(random.nextInt(DAYS)),
+                    locations[random.nextInt(LOCATIONS)]);
+            index.upsert(availabilities[i]);
+        }
+
+        queries = new double[QUERIES][];
+        windowStarts = new LocalDate[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            double[] metro = metros[random.nextInt(METROS)];
+            queries[i] = i % 4 == 0 ? randomPoint(random)
+                    : new double[] {metro[0] + random.nextGaussian() * 0.2, metro[1] + random.nextGaussian() * 0.2};
+            windowStarts[i] = FIRST_DAY.plusDays(random.nextInt(DAYS - WINDOW_DAYS + 1));
+        }
+        int hits = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            hits += nearest().size();
+        }
+        System.out.printf("%n%d slots at %d locations over %d days: %.1f hits per query%n",
+                slots, LOCATIONS, DAYS, (double) hits / QUERIES);
+    }
+
+    @Benchmark
+    public List<NearbyAvailabilityDto> nearest() {
+        int query = nextQuery();
+        LocalDate from = windowStarts[query];
+        return index.nearest(queries[query][0], queries[query][1], RADIUS_KM, LIMIT,
+                availability -> inWindow(availability, from));
+    }
+
+    @Benchmark
+    public List<NearbyAvailabilityDto> linearScan() {
+        int query = nextQuery();
+        LocalDate from = windowStarts[query];
+        List<NearbyAvailabilityDto> hits = new ArrayList<>();
+        for (AvailabilityResponseDto availability : availabilities) {
+            double distance = distanceKm(queries[query][0], queries[query][1],
+                    availability.getLocation().getAddress().getLatitude(),
+                    availability.getLocation().getAddress().getLongitude());
+            if (distance <= RADIUS_KM && inWindow(availability, from)) {
+                hits.add(NearbyAvailabilityDto.builder().distanceKm(distance).availability(availability).build());
+            }
+        }
+        hits.sort(Comparator.comparingDouble(NearbyAvailabilityDto::getDistanceKm));
+        return hits.subList(0, Math.min(LIMIT, hits.size()));
+    }
+
+    private int nextQuery() {
+        return next++ & (QUERIES - 1);
+    }
+
+    private static boolean inWindow(AvailabilityResponseDto availability, LocalDate from) {
+        return !availability.getDate().isBefore(from) && availability.getDate().isBefore(from.plusDays(WINDOW_DAYS));
+    }
+
+    private static double[] randomPoint(Random random) {
+        return new double[] {25 + random.nextDouble() * 24, -124 + random.nextDouble() * 57};
+    }
+
+    private static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * 6371.0088 * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    @Test
+    void run() throws Exception {
+        Benchmarks.run(getClass(), "-Xmx2g");
+    }
+}
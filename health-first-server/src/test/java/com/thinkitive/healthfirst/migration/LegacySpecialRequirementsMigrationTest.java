@@ -0,0 +1,165 @@
+package com.thinkitive.healthfirst.migration;
+
+import com.thinkitive.healthfirst.entity.AppointmentType;
+import com.thinkitive.healthfirst.entity.AvailabilityEntity;
+import com.thinkitive.healthfirst.entity.ProviderEntity;
+import com.thinkitive.healthfirst.entity.UserEntity;
+import com.thinkitive.healthfirst.entity.UserRole;
+import com.thinkitive.healthfirst.repository.AvailabilityRepository;
+import com.thinkitive.healthfirst.repository.ProviderRepository;
+import com.thinkitive.healthfirst.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The migration drops a table, which commits, so the test runs outside a rolled-back transaction
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LegacySpecialRequirementsMigrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProviderRepository providerRepository;
+
+    @Autowired
+    private AvailabilityRepository availabilityRepository;
+
+    private LegacySpecialRequirementsMigration migration;
+    private ProviderEntity provider;
+
+    @BeforeEach
+    void createLegacyTable() {
+        migration = new LegacySpecialRequirementsMigration(jdbcTemplate);
+        UserEntity user = userRepository.save(UserEntity.builder()
+                .email("provider@example.com")
+                .phoneNumber("+15550000001")
+                .passwordHash("hash")
+                .role(UserRole.PROVIDER)
+                .isActive(true)
+                .build());
+        provider = providerRepository.save(ProviderEntity.builder()
+                .firstName("Ada")
+                .lastName("Lovelace")
+                .specialization("Cardiology")
+                .licenseNumber("LIC-1")
+                .user(user)
+                .build());
+        // as the element collection mapping created it: no order column, just a foreign key
+        jdbcTemplate.execute("CREATE TABLE availability_special_requirements (availability_id BINARY(16) NOT NULL, "
+                + "requirement VARCHAR(255), FOREIGN KEY (availability_id) REFERENCES availability (id))");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS availability_special_requirements");
+        availabilityRepository.deleteAll();
+        providerRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void foldsRowsPerAvailabilityInInsertOrderAndDropsTheTable() {
+        UUID first = availability();
+        UUID second = availability();
+        UUID without = availability();
+        // interleaved, so the rows of one availability do not arrive together by accident
+        insertRequirement(second, "Interpreter: Español");
+        insertRequirement(first, "Bring \"insurance\" card");
+        insertRequirement(second, "Wheelchair access \\ ramp");
+        insertRequirement(first, "Fasting, no water after midnight");
+        insertRequirement(first, "[not] {json}");
+
+        migration.migrate();
+
+        assertThat(requirementsOf(first))
+                .containsExactly("Bring \"insurance\" card", "Fasting, no water after midnight", "[not] {json}");
+        assertThat(requirementsOf(second)).containsExactly("Interpreter: Español", "Wheelchair access \\ ramp");
+        assertThat(requirementsOf(without)).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT special_requirements FROM availability WHERE id = ?",
+                String.class, bytesOf(first)))
+                .isEqualTo("[\"Bring \\\"insurance\\\" card\",\"Fasting, no water after midnight\",\"[not] {json}\"]");
+        assertThat(legacyTableExists()).isFalse();
+    }
+
+    @Test
+    void rerunAfterAnInterruptedRunKeepsWhatWasWrittenAndFinishesTheRest() {
+        UUID migrated = availability();
+        UUID pending = availability();
+        insertRequirement(migrated, "Old value");
+        insertRequirement(pending, "Bring referral");
+        // the first run wrote this availability, then stopped before dropping the table
+        jdbcTemplate.update("UPDATE availability SET special_requirements = ? WHERE id = ?",
+                "[\"Edited since\"]", bytesOf(migrated));
+
+        migration.migrate();
+
+        assertThat(requirementsOf(migrated)).containsExactly("Edited since");
+        assertThat(requirementsOf(pending)).containsExactly("Bring referral");
+        assertThat(legacyTableExists()).isFalse();
+    }
+
+    @Test
+    void runWithoutTheLegacyTableChangesNothing() {
+        UUID id = availability();
+        insertRequirement(id, "Bring referral");
+        migration.migrate();
+
+        migration.migrate();
+
+        assertThat(requirementsOf(id)).containsExactly("Bring referral");
+        assertThat(legacyTableExists()).isFalse();
+    }
+
+    private UUID availability() {
+        AvailabilityEntity availability = AvailabilityEntity.builder()
+                .provider(provider)
+                .date(LocalDate.of(2027, 3, 15))
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(10, 0))
+                .timezone("UTC")
+                .slotDuration(30)
+                .appointmentType(AppointmentType.CONSULTATION)
+                .build();
+        return availabilityRepository.save(availability).getId();
+    }
+
+    private void insertRequirement(UUID availabilityId, String requirement) {
+        jdbcTemplate.update("INSERT INTO availability_special_requirements (availability_id, requirement) VALUES (?, ?)",
+                bytesOf(availabilityId), requirement);
+    }
+
+    private List<String> requirementsOf(UUID availabilityId) {
+        return availabilityRepository.findById(availabilityId).orElseThrow().getSpecialRequirements();
+    }
+
+    private boolean legacyTableExists() {
+        Integer tables = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES "
+                + "WHERE LOWER(TABLE_NAME) = 'availability_special_requirements'", Integer.class);
+        return tables != null && tables > 0;
+    }
+
+    private static byte[] bytesOf(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,104 @@
+package com.thinkitive.healthfirst.repository;
+
+import com.thinkitive.healthfirst.entity.AppointmentType;
+import com.thinkitive.healthfirst.entity.AvailabilityEntity;
+import com.thinkitive.healthfirst.entity.AvailabilityStatus;
+import com.thinkitive.healthfirst.entity.ProviderEntity;
+import com.thinkitive.healthfirst.entity.UserEntity;
+import com.thinkitive.healthfirst.entity.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class AvailabilityRepositoryTest {
+
+    private static final LocalDate DAY = LocalDate.of(2027, 3, 15);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AvailabilityRepository availabilityRepository;
+
+    private ProviderEntity provider;
+
+    @BeforeEach
+    void createProvider() {
+        UserEntity user = entityManager.persist(UserEntity.builder()
+                .email("provider@example.com")
+                .phoneNumber("+15550000001")
+                .passwordHash("hash")
+                .role(UserRole.PROVIDER)
+                .isActive(true)
+                .build());
+        provider = entityManager.persist(ProviderEntity.builder()
+                .firstName("Ada")
+                .lastName("Lovelace")
+                .specialization("Cardiology")
+                .licenseNumber("LIC-1")
+                .user(user)
+                .build());
+    }
+
+    @Test
+    void findStartingBetweenOrdersByUtcStartAcrossZones() {
+        // wall-clock order differs from UTC order once the zones are applied
+        AvailabilityEntity tokyo = persist(LocalTime.of(9, 0), "Asia/Tokyo", AvailabilityStatus.AVAILABLE);
+        AvailabilityEntity losAngeles = persist(LocalTime.of(8, 0), "America/Los_Angeles", AvailabilityStatus.AVAILABLE);
+        AvailabilityEntity newYork = persist(LocalTime.of(10, 0), "America/New_York", AvailabilityStatus.AVAILABLE);
+        AvailabilityEntity london = persist(LocalTime.of(11, 0), "Europe/London", AvailabilityStatus.AVAILABLE);
+        persist(LocalTime.of(12, 0), "UTC", AvailabilityStatus.BOOKED);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<AvailabilityEntity> found = availabilityRepository.findStartingBetween(AvailabilityStatus.AVAILABLE,
+                Instant.parse("2027-03-14T00:00:00Z"), Instant.parse("2027-03-16T00:00:00Z"), PageRequest.of(0, 10));
+
+        assertThat(found).extracting(AvailabilityEntity::getId)
+                .containsExactly(tokyo.getId(), london.getId(), newYork.getId(), losAngeles.getId());
+    }
+
+    @Test
+    void findStartingBetweenKeepsTheEarliestPageAndExcludesTheUpperBound() {
+        AvailabilityEntity first = persist(LocalTime.of(9, 0), "UTC", AvailabilityStatus.AVAILABLE);
+        AvailabilityEntity second = persist(LocalTime.of(10, 0), "UTC", AvailabilityStatus.AVAILABLE);
+        persist(LocalTime.of(11, 0), "UTC", AvailabilityStatus.AVAILABLE);
+        persist(LocalTime.of(12, 0), "UTC", AvailabilityStatus.AVAILABLE);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(availabilityRepository.findStartingBetween(AvailabilityStatus.AVAILABLE,
+                Instant.parse("2027-03-15T09:00:00Z"), Instant.parse("2027-03-15T12:00:00Z"), PageRequest.of(0, 2)))
+                .extracting(AvailabilityEntity::getId)
+                .containsExactly(first.getId(), second.getId());
+        assertThat(availabilityRepository.findStartingBetween(AvailabilityStatus.AVAILABLE,
+                Instant.parse("2027-03-15T09:00:00Z"), Instant.parse("2027-03-15T12:00:00Z"), PageRequest.of(0, 10)))
+                .hasSize(3);
+    }
+
+    private AvailabilityEntity persist(LocalTime startTime, String timezone, AvailabilityStatus status) {
+        AvailabilityEntity availability = AvailabilityEntity.builder()
+                .provider(provider)
+                .date(DAY)
+                .startTime(startTime)
+                .endTime(startTime.plusHours(1))
+                .timezone(timezone)
+                .slotDuration(30)
+                .status(status)
+                .appointmentType(AppointmentType.CONSULTATION)
+                .build();
+        availability.computeInstants();
+        return entityManager.persist(availability);
+    }
+}
@@ -0,0 +1,212 @@
+package com.thinkitive.healthfirst.repository;
+
+import com.thinkitive.healthfirst.support.Benchmarks;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The window search ("open slots starting in the next few hours") as the single range scan on
+ * the UTC start that {@link AvailabilityRepository#findStartingBetween} runs, against filtering
+ * the local date and time columns. Local times only order within one zone, so the old form
+ * needs one query per zone in use, each with the window converted to that zone's wall clock,
+ * and a merge of the results. It is given an index on (timezone, status, date, start_time),
+ * a per-zone limit and the list of zones known up front. Both sorts name their index from
+ * the first column, which H2 needs before it stops a scan at the limit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AvailabilityWindowBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int QUERIES = 64;
+    private static final int LIMIT = 100;
+    private static final int DAYS = 90;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2027, 4, 5);
+    private static final String[] ZONES = {
+            "America/New_York", "America/Chicago", "America/Denver", "America/Los_Angeles", "America/Phoenix",
+            "America/Anchorage", "Pacific/Honolulu", "America/Toronto", "America/Mexico_City", "America/Sao_Paulo",
+            "Europe/London", "Europe/Paris", "Europe/Berlin", "Europe/Madrid", "Africa/Johannesburg", "Asia/Dubai",
+            "Asia/Kolkata", "Asia/Singapore", "Asia/Shanghai", "Asia/Tokyo", "Australia/Sydney", "Australia/Perth",
+            "Pacific/Auckland", "UTC"};
+
+    @Param({"4", "24"})
+    private int zones;
+
+    @Param({"4", "168"})
+    private int windowHours;
+
+    @Param({"1000000"})
+    private int rows;
+
+    private Connection connection;
+    private PreparedStatement instantRange;
+    private PreparedStatement localRange;
+    private Instant[] windowStarts;
+    private int next;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:window-benchmark", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE availability (id BIGINT PRIMARY KEY, date DATE NOT NULL, "
+                    + "start_time TIME NOT NULL, end_time TIME NOT NULL, timezone VARCHAR(255) NOT NULL, "
+                    + "start_utc TIMESTAMP WITH TIME ZONE, status VARCHAR(255) NOT NULL)");
+            statement.execute("CREATE INDEX idx_availability_status_start_utc ON availability (status, start_utc)");
+            statement.execute("CREATE INDEX idx_availability_zone_local ON availability "
+                    + "(timezone, status, date, start_time)");
+        }
+        insertRows();
+
+        instantRange = connection.prepareStatement("SELECT id, start_utc FROM availability "
+                + "WHERE status = 'AVAILABLE' AND start_utc >= ? AND start_utc < ? ORDER BY status, start_utc LIMIT " + LIMIT);
+        localRange = connection.prepareStatement("SELECT id, date, start_time FROM availability "
+                + "WHERE timezone = ? AND status = 'AVAILABLE' AND date BETWEEN ? AND ? "
+                + "AND (date > ? OR start_time >= ?) AND (date < ? OR start_time < ?) "
+                + "ORDER BY timezone, status, date, start_time LIMIT " + LIMIT);
+
+        Random random = new Random(7);
+        windowStarts = new Instant[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            windowStarts[i] = FIRST_DAY.atStartOfDay(ZoneOffset.UTC).toInstant()
+                    .plusSeconds(3600L * random.nextInt((DAYS - 8) * 24));
+        }
+        // slots starting at the same instant may tie at the limit, so the starts are compared
+        for (int i = 0; i < QUERIES; i++) {
+            next = i;
+            List<Instant> expected = startsOf(instantRange());
+            next = i;
+            if (!expected.equals(startsOf(localRange()))) {
+                throw new IllegalStateException("The two forms disagree on window " + windowStarts[i]);
+            }
+        }
+        System.out.printf("%n%d rows in %d zones, %d-hour windows: %d slots returned on average%n",
+                rows, zones, windowHours, averageHits());
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public List<Hit> instantRange() throws SQLException {
+        Instant from = windowStarts[next++ & (QUERIES - 1)];
+        instantRange.setObject(1, from.atOffset(ZoneOffset.UTC));
+        instantRange.setObject(2, from.plusSeconds(3600L * windowHours).atOffset(ZoneOffset.UTC));
+        List<Hit> hits = new ArrayList<>(LIMIT);
+        try (ResultSet resultSet = instantRange.executeQuery()) {
+            while (resultSet.next()) {
+                hits.add(new Hit(resultSet.getLong(1), resultSet.getObject(2, OffsetDateTime.class).toInstant()));
+            }
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public List<Hit> localRange() throws SQLException {
+        Instant from = windowStarts[next++ & (QUERIES - 1)];
+        Instant to = from.plusSeconds(3600L * windowHours);
+        List<Hit> hits = new ArrayList<>();
+        for (int z = 0; z < zones; z++) {
+            ZoneId zone = ZoneId.of(ZONES[z]);
+            LocalDateTime localFrom = LocalDateTime.ofInstant(from, zone);
+            LocalDateTime localTo = LocalDateTime.ofInstant(to, zone);
+            localRange.setString(1, ZONES[z]);
+            localRange.setDate(2, Date.valueOf(localFrom.toLocalDate()));
+            localRange.setDate(3, Date.valueOf(localTo.toLocalDate()));
+            localRange.setDate(4, Date.valueOf(localFrom.toLocalDate()));
+            localRange.setTime(5, Time.valueOf(localFrom.toLocalTime()));
+            localRange.setDate(6, Date.valueOf(localTo.toLocalDate()));
+            localRange.setTime(7, Time.valueOf(localTo.toLocalTime()));
+            try (ResultSet resultSet = localRange.executeQuery()) {
+                while (resultSet.next()) {
+                    hits.add(new Hit(resultSet.getLong(1), resultSet.getDate(2).toLocalDate()
+                            .atTime(resultSet.getTime(3).toLocalTime()).atZone(zone).toInstant()));
+                }
+            }
+        }
+        hits.sort(Comparator.comparing(Hit::start));
+        return hits.subList(0, Math.min(LIMIT, hits.size()));
+    }
+
+    private static List<Instant> startsOf(List<Hit> hits) {
+        return hits.stream().map(Hit::start).toList();
+    }
+
+    private int averageHits() throws SQLException {
+        int hits = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            hits += instantRange().size();
+        }
+        return hits / QUERIES;
+    }
+
+    private void insertRows() throws SQLException {
+        connection.setAutoCommit(false);
+        Random random = new Random(42);
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO availability "
+                + "(id, date, start_time, end_time, timezone, start_utc, status) VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 1; i <= rows; i++) {
+                String zone = ZONES[random.nextInt(zones)];
+                LocalDate date = FIRST_DAY.plusDays(random.nextInt(DAYS));
+                LocalTime start = LocalTime.of(8 + random.nextInt(10), random.nextBoolean() ? 0 : 30);
+                OffsetDateTime startUtc = date.atTime(start).atZone(ZoneId.of(zone)).toInstant().atOffset(ZoneOffset.UTC);
+                insert.setLong(1, i);
+                insert.setDate(2, Date.valueOf(date));
+                insert.setTime(3, Time.valueOf(start));
+                insert.setTime(4, Time.valueOf(start.plusMinutes(30)));
+                insert.setString(5, zone);
+                insert.setObject(6, startUtc);
+                insert.setString(7, random.nextInt(10) < 8 ? "AVAILABLE" : "BOOKED");
+                insert.addBatch();
+                if (i % BATCH_SIZE == 0 || i == rows) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+        }
+        connection.setAutoCommit(true);
+    }
+
+    public record Hit(long id, Instant start) {
+    }
+
+    @Test
+    void run() throws Exception {
+        Benchmarks.run(Benchmarks.options(getClass(), "-Xmx2g")
+                .param("rows", System.getProperty("benchmark.rows", "1000000")));
+    }
+}
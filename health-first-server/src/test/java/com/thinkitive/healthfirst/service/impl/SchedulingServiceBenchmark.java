@@ -0,0 +1,110 @@
+package com.thinkitive.healthfirst.service.impl;
+
+import com.thinkitive.healthfirst.dto.response.CommonFreeTimeDto;
+import com.thinkitive.healthfirst.entity.AppointmentType;
+import com.thinkitive.healthfirst.entity.AvailabilityEntity;
+import com.thinkitive.healthfirst.entity.AvailabilityStatus;
+import com.thinkitive.healthfirst.entity.ProviderEntity;
+import com.thinkitive.healthfirst.repository.AvailabilityRepository;
+import com.thinkitive.healthfirst.service.ProviderService;
+import com.thinkitive.healthfirst.support.Benchmarks;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Common free time across providers over a quarter and over the longest allowed range, each
+ * provider working a morning and an afternoon block a day with breaks between slots and some slots booked.
+ * The repository is stubbed, so only the slot expansion, merge and sweep are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SchedulingServiceBenchmark {
+
+    private static final LocalDate START = LocalDate.of(2027, 1, 4);
+    private static final String[] ZONES = {"America/New_York", "America/Chicago", "Europe/London"};
+
+    @Param({"2", "10", "20"})
+    private int providers;
+
+    @Param({"90", "180"})
+    private int days;
+
+    private SchedulingServiceImpl service;
+    private LocalDate end;
+    private List<UUID> providerIds;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        end = START.plusDays(days - 1);
+        providerIds = new ArrayList<>();
+        List<AvailabilityEntity> availabilities = new ArrayList<>();
+        for (int p = 0; p < providers; p++) {
+            ProviderEntity provider = new ProviderEntity();
+            provider.setId(new UUID(0, p));
+            providerIds.add(provider.getId());
+            String zone = ZONES[p % ZONES.length];
+            for (LocalDate date = START.minusDays(1); !date.isAfter(end.plusDays(1)); date = date.plusDays(1)) {
+                availabilities.add(availability(provider, date, zone, LocalTime.of(8 + random.nextInt(2), 0),
+                        LocalTime.of(12, 0), random));
+                availabilities.add(availability(provider, date, zone, LocalTime.of(13, 0),
+                        LocalTime.of(16 + random.nextInt(2), 0), random));
+            }
+        }
+
+        AvailabilityRepository availabilityRepository = mock(AvailabilityRepository.class);
+        when(availabilityRepository.findByProviderIdInAndDateBetweenAndStatus(
+                anyCollection(), any(), any(), eq(AvailabilityStatus.AVAILABLE))).thenReturn(availabilities);
+        service = new SchedulingServiceImpl(availabilityRepository, mock(ProviderService.class));
+        System.out.printf("%n%d providers, %d days, %d windows: %d common free times%n",
+                providers, days, availabilities.size(), commonFreeTime().size());
+    }
+
+    @Benchmark
+    public List<CommonFreeTimeDto> commonFreeTime() {
+        return service.findCommonFreeTime(providerIds, 30, 15, START, end);
+    }
+
+    private static AvailabilityEntity availability(ProviderEntity provider, LocalDate date, String zone,
+                                                   LocalTime startTime, LocalTime endTime, Random random) {
+        return AvailabilityEntity.builder()
+                .provider(provider)
+                .date(date)
+                .startTime(startTime)
+                .endTime(endTime)
+                .timezone(zone)
+                .slotDuration(30)
+                .breakDuration(random.nextBoolean() ? 0 : 10)
+                .maxAppointmentsPerSlot(1)
+                .currentAppointments(random.nextInt(4))
+                .appointmentType(AppointmentType.CONSULTATION)
+                .build();
+    }
+
+    @Test
+    void run() throws Exception {
+        Benchmarks.run(getClass());
+    }
+}
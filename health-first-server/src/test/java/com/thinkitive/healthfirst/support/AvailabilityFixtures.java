@@ -0,0 +1,128 @@
+package com.thinkitive.healthfirst.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.thinkitive.healthfirst.dto.request.AddressDto;
+import com.thinkitive.healthfirst.dto.request.LocationDto;
+import com.thinkitive.healthfirst.dto.request.PricingDto;
+import com.thinkitive.healthfirst.dto.response.AvailabilityResponseDto;
+import com.thinkitive.healthfirst.entity.AppointmentType;
+import com.thinkitive.healthfirst.entity.AvailabilityStatus;
+import com.thinkitive.healthfirst.entity.RecurrencePattern;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic availability data for benchmarks: a few providers, each with a handful of
+ * clinics, working weekday morning and afternoon blocks.
+ */
+public final class AvailabilityFixtures {
+
+    private static final String[] SPECIALIZATIONS = {"Cardiology", "Dermatology", "Pediatrics", "Neurology"};
+    private static final String[] CITIES = {"Boston", "Chicago", "Denver", "Seattle", "Austin"};
+    private static final String[] ZONES = {"America/New_York", "America/Chicago", "America/Denver", "America/Los_Angeles"};
+
+    private AvailabilityFixtures() {
+    }
+
+    /**
+     * JSON mapper configured like the application's (ISO dates, Java time module).
+     */
+    public static ObjectMapper objectMapper() {
+        return jsonBuilder().build();
+    }
+
+    public static Jackson2ObjectMapperBuilder jsonBuilder() {
+        return Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    public static List<AvailabilityResponseDto> schedule(int slots, int providers, long seed) {
+        Random random = new Random(seed);
+        List<AvailabilityResponseDto> availabilities = new ArrayList<>(slots);
+        LocalDate firstDay = LocalDate.of(2027, 1, 4);
+        for (int i = 0; i < slots; i++) {
+            int provider = i % providers;
+            int clinic = random.nextInt(3);
+            int day = i / (providers * 2);
+            LocalDate date = firstDay.plusDays(day / 5 * 7 + day % 5);
+            boolean morning = i / providers % 2 == 0;
+            LocalTime start = morning ? LocalTime.of(9, 0) : LocalTime.of(13, 30);
+            LocalTime end = morning ? LocalTime.of(12, 0) : LocalTime.of(17, 0);
+            String zone = ZONES[provider % ZONES.length];
+            availabilities.add(AvailabilityResponseDto.builder()
+                    .id(new UUID(provider, i))
+                    .providerId(new UUID(0, provider))
+                    .providerName("Provider" + provider + " Lastname" + provider)
+                    .specialization(SPECIALIZATIONS[provider % SPECIALIZATIONS.length])
+                    .yearsOfExperience(5 + provider % 20)
+                    .date(date)
+                    .startTime(start)
+                    .endTime(end)
+                    .timezone(zone)
+                    .startInstant(date.atTime(start).atZone(ZoneId.of(zone)).toInstant())
+                    .endInstant(date.atTime(end).atZone(ZoneId.of(zone)).toInstant())
+                    .isRecurring(true)
+                    .recurrencePattern(RecurrencePattern.WEEKLY)
+                    .recurrenceEndDate(firstDay.plusMonths(6))
+                    .slotDuration(30)
+                    .breakDuration(random.nextBoolean() ? 0 : 10)
+                    .status(random.nextInt(10) < 8 ? AvailabilityStatus.AVAILABLE : AvailabilityStatus.BOOKED)
+                    .maxAppointmentsPerSlot(1)
+                    .currentAppointments(0)
+                    .appointmentType(AppointmentType.values()[random.nextInt(AppointmentType.values().length)])
+                    .location(location(provider, clinic))
+                    .pricing(PricingDto.builder().baseFee(100.0 + 25 * (provider % 4)).currency("USD")
+                            .insuranceAccepted(provider % 3 != 0).build())
+                    .specialRequirements(random.nextInt(4) == 0 ? List.of("Bring insurance card") : List.of())
+                    .build());
+        }
+        return availabilities;
+    }
+
+    /**
+     * An open availability on the given day at the given location, with only the fields search reads.
+     */
+    public static AvailabilityResponseDto openSlotAt(long id, LocalDate date, LocationDto location) {
+        return AvailabilityResponseDto.builder()
+                .id(new UUID(0, id))
+                .date(date)
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(9, 30))
+                .slotDuration(30)
+                .breakDuration(0)
+                .status(AvailabilityStatus.AVAILABLE)
+                .maxAppointmentsPerSlot(1)
+                .currentAppointments(0)
+                .appointmentType(AppointmentType.CONSULTATION)
+                .location(location)
+                .build();
+    }
+
+    public static LocationDto locationAt(double latitude, double longitude) {
+        return LocationDto.builder()
+                .address(AddressDto.builder().latitude(latitude).longitude(longitude).build())
+                .build();
+    }
+
+    private static LocationDto location(int provider, int clinic) {
+        String city = CITIES[(provider + clinic) % CITIES.length];
+        return LocationDto.builder()
+                .type("CLINIC")
+                .address(AddressDto.builder()
+                        .street((100 + provider * 7 + clinic) + " Medical Center Drive")
+                        .city(city)
+                        .state("ST")
+                        .zipCode(String.format("%05d", 10000 + provider * 10 + clinic))
+                        .country("US")
+                        .build())
+                .roomNumber(String.valueOf(100 + clinic))
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.thinkitive.healthfirst.support;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Runs the JMH benchmarks of one class from its JUnit entry point, so that the benchmark
+ * profile can pick them up through surefire. Results are also written as JSON to
+ * {@code target/jmh-<class>.json}.
+ */
+public final class Benchmarks {
+
+    private Benchmarks() {
+    }
+
+    public static void run(Class<?> benchmark, String... jvmArgs) throws RunnerException {
+        run(options(benchmark, jvmArgs));
+    }
+
+    public static void run(ChainedOptionsBuilder options) throws RunnerException {
+        new Runner(options.build()).run();
+    }
+
+    /**
+     * The defaults {@link #run(Class, String...)} uses, for benchmarks that need to adjust them
+     * (a whole server warms up much slower than a single serializer).
+     */
+    public static ChainedOptionsBuilder options(Class<?> benchmark, String... jvmArgs) {
+        return new OptionsBuilder()
+                .include(benchmark.getName() + "\\.")
+                .forks(1)
+                .jvmArgsAppend(jvmArgs)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .result("target/jmh-" + benchmark.getSimpleName() + ".json")
+                .resultFormat(ResultFormatType.JSON);
+    }
+}